@@ -0,0 +1,33 @@
+// Uncached, DB-bound member reads at high concurrency. Run once against the default
+// (platform threads) and once against bootRun -Pvirtual, then compare throughput and p99.
+//
+//   k6 run -e TOKEN=<admin jwt> -e MODE=platform loadtest/member-reads.js
+//   k6 run -e TOKEN=<admin jwt> -e MODE=virtual  loadtest/member-reads.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8086';
+const VUS = parseInt(__ENV.VUS || '1000', 10);
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: __ENV.DURATION || '2m',
+            tags: { mode: __ENV.MODE || 'unknown' },
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+const params = { headers: { Authorization: `Bearer ${__ENV.TOKEN}` } };
+
+export default function () {
+    // The keyset endpoint bypasses the list-page cache, so every request reaches Postgres
+    const res = http.get(`${BASE_URL}/api/v1/members?after=&size=20`, params);
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,32 @@
+package com.surest_member_managemant.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.util.concurrent.TimeUnit;
+
+// Verification time per BCrypt cost level; compare against app.security.bcrypt.target-verify-time
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class BCryptCostBenchmark {
+
+    private static final String PASSWORD = "Admin@123";
+
+    @Param({"8", "10", "11", "12", "13"})
+    public int cost;
+
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        hash = BCrypt.hashpw(PASSWORD, BCrypt.gensalt(cost));
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return BCrypt.checkpw(PASSWORD, hash);
+    }
+}
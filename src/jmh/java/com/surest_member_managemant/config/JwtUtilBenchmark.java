@@ -0,0 +1,46 @@
+package com.surest_member_managemant.config;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Per-request cost of bearer token verification in JwtAuthenticationFilter
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "MySuperSecretKey1234567890123456";
+
+    private JwtUtil jwtUtil;
+    private SecretKey key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 3_600_000);
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        token = jwtUtil.generateToken("admin", List.of("ROLE_ADMIN", "ROLE_USER"));
+    }
+
+    // Previous filter path: a fresh parser and a full signature check for validate, subject and roles
+    @Benchmark
+    public void before(Blackhole bh) {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        bh.consume(Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(token).getBody().getSubject());
+        bh.consume(Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(token).getBody().get("roles"));
+    }
+
+    // Current filter path: shared parser, one signature check
+    @Benchmark
+    public void after(Blackhole bh) {
+        bh.consume(jwtUtil.verify(token));
+    }
+}
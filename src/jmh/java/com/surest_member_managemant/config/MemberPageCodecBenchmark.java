@@ -0,0 +1,82 @@
+package com.surest_member_managemant.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.surest_member_managemant.dto.CursorPage;
+import com.surest_member_managemant.dto.MemberResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Encode/decode cost of a 1,000-member page as JSON versus CBOR (the negotiated binary format).
+// serialize also reports the encoded size as the payloadBytes secondary result.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemberPageCodecBenchmark {
+
+    private static final int PAGE_SIZE = 1_000;
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    private CursorPage<MemberResponse> page;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Mirrors the Boot-configured mapper the converters are built from
+        ObjectMapper json = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        ObjectMapper mapper = "cbor".equals(format) ? json.copyWith(new CBORFactory()) : json;
+
+        List<MemberResponse> members = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            members.add(MemberResponse.builder()
+                    .id(UUID.randomUUID())
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .dateOfBirth(LocalDate.of(1950, 1, 1).plusDays(i * 17L))
+                    .email("member" + i + "@example.com")
+                    .version((long) (i % 5))
+                    .build());
+        }
+        page = new CursorPage<>(members, PAGE_SIZE, true, "opaque-cursor");
+
+        writer = mapper.writerFor(mapper.getTypeFactory().constructParametricType(CursorPage.class, MemberResponse.class));
+        reader = mapper.readerFor(mapper.getTypeFactory().constructParametricType(CursorPage.class, MemberResponse.class));
+        encoded = writer.writeValueAsBytes(page);
+    }
+
+    // Holds the last payload length; JMH reads EVENTS counters as-is, so the result is the size in bytes
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long payloadBytes;
+    }
+
+    @Benchmark
+    public byte[] serialize(PayloadSize size) throws IOException {
+        byte[] bytes = writer.writeValueAsBytes(page);
+        size.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public CursorPage<MemberResponse> deserialize() throws IOException {
+        return reader.readValue(encoded);
+    }
+}
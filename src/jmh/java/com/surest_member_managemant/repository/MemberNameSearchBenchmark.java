@@ -0,0 +1,94 @@
+package com.surest_member_managemant.repository;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+// Filtered member list (page + count) on a 1M-row table, with and without the V4 trigram indexes.
+// Needs Docker (Testcontainers); runs as part of ./gradlew jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class MemberNameSearchBenchmark {
+
+    private static final int ROWS = 1_000_000;
+
+    // Same shape as the SQL Hibernate renders for findByFirstNameContainingIgnoreCase
+    private static final String PAGE_SQL = "SELECT id, first_name, last_name, date_of_birth, email " +
+            "FROM surestdatabase.member WHERE lower(first_name) LIKE lower('%' || ? || '%') ESCAPE '\\' " +
+            "ORDER BY created_at DESC OFFSET 0 LIMIT 20";
+    private static final String COUNT_SQL = "SELECT count(id) " +
+            "FROM surestdatabase.member WHERE lower(first_name) LIKE lower('%' || ? || '%') ESCAPE '\\'";
+
+    @Param({"false", "true"})
+    public boolean trigramIndex;
+
+    @Param({"beef"})
+    public String term;
+
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+    private PreparedStatement pageQuery;
+    private PreparedStatement countQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        try (Statement st = connection.createStatement()) {
+            st.execute("CREATE SCHEMA surestdatabase");
+            st.execute("CREATE TABLE surestdatabase.member (" +
+                    "id UUID PRIMARY KEY, first_name VARCHAR(100) NOT NULL, last_name VARCHAR(100) NOT NULL, " +
+                    "date_of_birth DATE NOT NULL, email VARCHAR(255) NOT NULL UNIQUE, " +
+                    "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL)");
+            st.execute("INSERT INTO surestdatabase.member " +
+                    "SELECT gen_random_uuid(), " +
+                    "(ARRAY['Alice','Rahul','Priya','John','Maria','Chen','Fatima','Lucas'])[1 + i % 8] || substr(md5(i::text), 1, 6), " +
+                    "'Last' || substr(md5((i * 7)::text), 1, 8), " +
+                    "DATE '1950-01-01' + (i % 20000), " +
+                    "'member' || i || '@example.com', " +
+                    "now() - (i || ' seconds')::interval, now() " +
+                    "FROM generate_series(1, " + ROWS + ") AS i");
+            if (trigramIndex) {
+                st.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+                st.execute("CREATE INDEX idx_member_first_name_trgm ON surestdatabase.member " +
+                        "USING gin (lower(first_name) gin_trgm_ops)");
+            }
+            st.execute("ANALYZE surestdatabase.member");
+        }
+        pageQuery = connection.prepareStatement(PAGE_SQL);
+        countQuery = connection.prepareStatement(COUNT_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public void filteredPageWithCount(Blackhole bh) throws SQLException {
+        pageQuery.setString(1, term);
+        try (ResultSet rs = pageQuery.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getString(1));
+            }
+        }
+        countQuery.setString(1, term);
+        try (ResultSet rs = countQuery.executeQuery()) {
+            rs.next();
+            bh.consume(rs.getLong(1));
+        }
+    }
+}
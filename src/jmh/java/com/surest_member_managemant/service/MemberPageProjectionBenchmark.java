@@ -0,0 +1,94 @@
+package com.surest_member_managemant.service;
+
+import com.surest_member_managemant.dto.MemberResponse;
+import com.surest_member_managemant.entity.Member;
+import com.surest_member_managemant.repository.MemberRepository;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// One 1,000-row list page read as managed entities copied into MemberResponse (previous getAllMembers path)
+// versus a constructor-expression projection. Both run in a read-only session, as under @Transactional(readOnly = true).
+// With the gc profiler, gc.alloc.rate.norm is bytes allocated per row. Needs Docker (Testcontainers).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MemberPageProjectionBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int PAGE_SIZE = 1_000;
+
+    private PostgreSQLContainer<?> postgres;
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Member.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, postgres.getJdbcUrl())
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, postgres.getUsername())
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, postgres.getPassword())
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create")
+                .setProperty(AvailableSettings.HBM2DDL_CREATE_NAMESPACES, "true")
+                .buildSessionFactory();
+        sessionFactory.inTransaction(session -> session.createNativeMutationQuery(
+                "INSERT INTO surestdatabase.member " +
+                        "(id, first_name, last_name, date_of_birth, email, created_at, updated_at, version) " +
+                        "SELECT gen_random_uuid(), 'First' || i, 'Last' || i, DATE '1950-01-01' + (i % 20000), " +
+                        "'member' || i || '@example.com', now() - (i || ' seconds')::interval, now(), 0 " +
+                        "FROM generate_series(1, " + ROWS + ") AS i")
+                .executeUpdate());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public List<MemberResponse> entities() {
+        return readOnly(session -> session
+                .createSelectionQuery("select m from Member m order by m.createdAt desc", Member.class)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList()
+                .stream()
+                .map(MemberService::mapToResponse)
+                .toList());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public List<MemberResponse> projection() {
+        return readOnly(session -> session
+                .createSelectionQuery(MemberRepository.MEMBER_RESPONSE + " order by m.createdAt desc", MemberResponse.class)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList());
+    }
+
+    private List<MemberResponse> readOnly(Function<Session, List<MemberResponse>> work) {
+        try (Session session = sessionFactory.openSession()) {
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+            session.beginTransaction();
+            try {
+                return work.apply(session);
+            } finally {
+                session.getTransaction().rollback();
+            }
+        }
+    }
+}
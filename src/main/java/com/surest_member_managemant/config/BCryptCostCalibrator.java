@@ -0,0 +1,42 @@
+package com.surest_member_managemant.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+
+// Picks the highest BCrypt cost whose verification fits the latency budget on this host
+@Slf4j
+public final class BCryptCostCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-Sample#1";
+
+    private BCryptCostCalibrator() {}
+
+    public static int calibrate(Duration target, int minCost, int maxCost) {
+        if (minCost < 4 || maxCost > 31 || minCost > maxCost) {
+            throw new IllegalArgumentException("Invalid BCrypt cost range " + minCost + ".." + maxCost);
+        }
+        // Warm up the JIT so the first measurement is not inflated
+        BCrypt.checkpw(SAMPLE_PASSWORD, BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(4)));
+
+        int chosen = minCost;
+        for (int cost = minCost; cost <= maxCost; cost++) {
+            String hash = BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(cost));
+            long start = System.nanoTime();
+            BCrypt.checkpw(SAMPLE_PASSWORD, hash);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            log.debug("BCrypt cost {} verifies in {} ms", cost, elapsed.toMillis());
+            if (elapsed.compareTo(target) > 0) {
+                break;
+            }
+            chosen = cost;
+            // Each step doubles the work; stop before the next one is certain to overshoot
+            if (elapsed.multipliedBy(2).compareTo(target) > 0) {
+                break;
+            }
+        }
+        log.info("Calibrated BCrypt cost {} for a {} ms verification target", chosen, target.toMillis());
+        return chosen;
+    }
+}
@@ -0,0 +1,112 @@
+package com.surest_member_managemant.config;
+
+import com.surest_member_managemant.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Runs the expensive hash work on a small dedicated pool so login bursts cannot occupy the servlet threads
+// serving member reads. Every caller blocks its own servlet thread until its hash is done, so at most
+// threads + queueCapacity of them can be parked here; anything beyond that is rejected at once with a 503.
+// queueCapacity 0 (the default) hands tasks straight to an idle worker and never queues.
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>(),
+                new CustomizableThreadFactory("password-encoder-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        // executor.active, executor.queued, executor.pool.size, executor.completed, ...
+        new ExecutorServiceMetrics(executor, "passwordEncoder", Tags.empty()).bindTo(meterRegistry);
+        this.rejected = Counter.builder("password.encoder.rejected")
+                .description("Password hash requests rejected because the encoder pool was saturated")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // Only inspects the stored hash, so it stays on the caller's thread
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // The encoder the login provider uses. Checks are bounded exactly as above, but the provider only encodes
+    // to rehash a password it has just verified (a cost or format upgrade); that encode must not turn a good
+    // login into a 503, so when the pool is full it runs on the caller's thread instead of being rejected.
+    public PasswordEncoder forAuthentication() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    return submit(() -> delegate.encode(rawPassword), false);
+                } catch (RejectedExecutionException e) {
+                    return delegate.encode(rawPassword);
+                }
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return BoundedPasswordEncoder.this.matches(rawPassword, encodedPassword);
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return BoundedPasswordEncoder.this.upgradeEncoding(encodedPassword);
+            }
+        };
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        return submit(task, true);
+    }
+
+    // Without failFast a rejection is rethrown as is, for the caller to handle
+    private <T> T submit(Callable<T> task, boolean failFast) {
+        try {
+            return executor.submit(task).get();
+        } catch (RejectedExecutionException e) {
+            if (!failFast) {
+                throw e;
+            }
+            rejected.increment();
+            throw new ServiceUnavailableException("Too many concurrent logins, please retry shortly");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Password check interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.surest_member_managemant.config;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Configuration
+@EnableConfigurationProperties(CacheRegionProperties.class)
+public class CacheConfig {
+
+    // Every region is a bounded, stats-recording Caffeine L1. A CacheManager bean named
+    // "sharedCacheManager" becomes the L2 tier (SharedCacheConfig provides a Postgres one); without
+    // one, L1 stands alone and peers are kept coherent by invalidation broadcasts.
+    @Bean
+    @Primary
+    public TwoTierCacheManager cacheManager(CacheRegionProperties properties,
+                                            List<RegionCacheLoader> loaders,
+                                            @Qualifier("sharedCacheManager") ObjectProvider<CacheManager> sharedCacheManager,
+                                            ObjectProvider<CacheInvalidationPublisher> publisher,
+                                            MeterRegistry meterRegistry) {
+        Map<String, RegionCacheLoader> loaderByRegion = loaders.stream()
+                .collect(Collectors.toMap(RegionCacheLoader::region, Function.identity()));
+        CacheManager shared = sharedCacheManager.getIfAvailable();
+        CacheInvalidationPublisher invalidationPublisher = publisher.getIfAvailable();
+
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(name -> {
+            CaffeineCache local = localCache(name, properties, loaderByRegion.get(name));
+            // Boot's binder does not recognise TwoTierCache, so bind the L1 tier here
+            CaffeineCacheMetrics.monitor(meterRegistry, local.getNativeCache(), name, "cache.manager", "cacheManager");
+            Cache sharedRegion = shared != null ? shared.getCache(name) : null;
+            return new TwoTierCache(local, sharedRegion, invalidationPublisher);
+        });
+        properties.getRegions().keySet().forEach(cacheManager::getCache);
+        return cacheManager;
+    }
+
+    static CaffeineCache localCache(String name, CacheRegionProperties properties, CacheLoader<Object, Object> loader) {
+        CacheRegionProperties.Region region = properties.getRegions().getOrDefault(name, properties.getDefaults());
+        Caffeine<Object, Object> builder = builder(region, properties.getDefaults());
+        if (loader != null) {
+            return new CaffeineCache(name, builder.build(loader));
+        }
+        if (region.getRefreshAfterWrite() != null) {
+            throw new IllegalStateException("Cache region '" + name + "' sets refresh-after-write but has no RegionCacheLoader");
+        }
+        return new CaffeineCache(name, builder.build());
+    }
+
+    static Caffeine<Object, Object> builder(CacheRegionProperties.Region region, CacheRegionProperties.Region defaults) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+
+        Long maximumSize = region.getMaximumSize() != null ? region.getMaximumSize() : defaults.getMaximumSize();
+        if (maximumSize == null) {
+            throw new IllegalStateException("Cache regions must be bounded; set app.cache.defaults.maximum-size");
+        }
+        builder.maximumSize(maximumSize);
+
+        var expireAfterWrite = region.getExpireAfterWrite() != null ? region.getExpireAfterWrite() : defaults.getExpireAfterWrite();
+        if (expireAfterWrite != null) {
+            builder.expireAfterWrite(expireAfterWrite);
+        }
+        // Refresh is opt-in per region: it only applies where a loader exists
+        if (region.getRefreshAfterWrite() != null) {
+            builder.refreshAfterWrite(region.getRefreshAfterWrite());
+        }
+        return builder;
+    }
+}
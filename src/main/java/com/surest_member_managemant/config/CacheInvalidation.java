@@ -0,0 +1,8 @@
+package com.surest_member_managemant.config;
+
+import java.util.List;
+
+// Wire format of a cross-node invalidation. A batch eviction lists its keys in keys;
+// with neither key nor keys set the whole cache is cleared.
+record CacheInvalidation(String node, String cache, String key, List<String> keys) {
+}
@@ -0,0 +1,118 @@
+package com.surest_member_managemant.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationListener implements SmartLifecycle {
+
+    private static final int POLL_TIMEOUT_MS = 5000;
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private final DataSource dataSource;
+    private final TwoTierCacheManager cacheManager;
+    private final CacheInvalidationPublisher publisher;
+    private final ObjectMapper objectMapper;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public CacheInvalidationListener(DataSource dataSource,
+                                     TwoTierCacheManager cacheManager,
+                                     CacheInvalidationPublisher publisher,
+                                     ObjectMapper objectMapper) {
+        if (!publisher.getChannel().matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid invalidation channel: " + publisher.getChannel());
+        }
+        this.dataSource = dataSource;
+        this.cacheManager = cacheManager;
+        this.publisher = publisher;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::listen, "cache-invalidation-listener");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Holds one connection for LISTEN; on any failure reconnects with backoff and clears L1,
+    // because invalidations sent while disconnected are not replayed
+    private void listen() {
+        long backoff = 1000;
+        while (running) {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                statement.execute("LISTEN " + publisher.getChannel());
+                cacheManager.clearLocal();
+                backoff = 1000;
+                log.info("Listening for cache invalidations on channel {}", publisher.getChannel());
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            handle(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener disconnected, retrying in {} ms: {}", backoff, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+            }
+        }
+    }
+
+    void handle(String payload) {
+        try {
+            CacheInvalidation invalidation = objectMapper.readValue(payload, CacheInvalidation.class);
+            if (publisher.getNodeId().equals(invalidation.node())) {
+                return;
+            }
+            if (invalidation.keys() != null) {
+                cacheManager.evictLocal(invalidation.cache(), invalidation.keys());
+            } else {
+                cacheManager.evictLocal(invalidation.cache(), invalidation.key());
+            }
+        } catch (IOException e) {
+            log.warn("Ignoring malformed cache invalidation: {}", payload);
+        }
+    }
+}
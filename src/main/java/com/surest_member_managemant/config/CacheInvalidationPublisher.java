@@ -0,0 +1,86 @@
+package com.surest_member_managemant.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationPublisher {
+
+    // NOTIFY payloads must stay under 8000 bytes; longer keys fall back to clearing the region
+    private static final int MAX_PAYLOAD_LENGTH = 7000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(JdbcTemplate jdbcTemplate,
+                                      ObjectMapper objectMapper,
+                                      @Value("${app.cache.invalidation.channel:member_cache_invalidation}") String channel) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void publishEvict(String cacheName, Object key) {
+        send(new CacheInvalidation(nodeId, cacheName, String.valueOf(key), null));
+    }
+
+    // Keys are packed into as few notifications as the payload limit allows
+    public void publishEvictAll(String cacheName, Collection<?> keys) {
+        List<String> batch = new ArrayList<>();
+        int length = 0;
+        for (Object key : keys) {
+            String value = String.valueOf(key);
+            if (!batch.isEmpty() && length + value.length() + 3 > MAX_PAYLOAD_LENGTH - 200) {
+                send(new CacheInvalidation(nodeId, cacheName, null, batch));
+                batch = new ArrayList<>();
+                length = 0;
+            }
+            batch.add(value);
+            length += value.length() + 3;
+        }
+        if (!batch.isEmpty()) {
+            send(new CacheInvalidation(nodeId, cacheName, null, batch));
+        }
+    }
+
+    public void publishClear(String cacheName) {
+        send(new CacheInvalidation(nodeId, cacheName, null, null));
+    }
+
+    // pg_notify runs on the caller's connection, so inside a transaction peers only hear about
+    // the change once it commits, and not at all if it rolls back
+    private void send(CacheInvalidation invalidation) {
+        try {
+            String payload = objectMapper.writeValueAsString(invalidation);
+            if (payload.length() > MAX_PAYLOAD_LENGTH) {
+                payload = objectMapper.writeValueAsString(new CacheInvalidation(nodeId, invalidation.cache(), null, null));
+            }
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> { }, channel, payload);
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("Failed to broadcast invalidation for cache {}: {}", invalidation.cache(), e.getMessage());
+        }
+    }
+}
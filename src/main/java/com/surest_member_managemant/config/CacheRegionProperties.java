@@ -0,0 +1,30 @@
+package com.surest_member_managemant.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Per-region cache tuning, e.g. app.cache.regions.members.maximum-size=10000
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheRegionProperties {
+
+    // Applied to any region without its own setting, including regions created on first use
+    private Region defaults = new Region(1000L, Duration.ofMinutes(30), null);
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Region {
+        private Long maximumSize;
+        private Duration expireAfterWrite;
+        private Duration refreshAfterWrite;
+    }
+}
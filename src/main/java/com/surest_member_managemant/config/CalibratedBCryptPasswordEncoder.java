@@ -0,0 +1,33 @@
+package com.surest_member_managemant.config;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// BCrypt at a calibrated cost that asks for a rehash whenever a stored hash uses any other cost,
+// so hashes converge on the current setting in both directions
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern COST = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final int cost;
+
+    public CalibratedBCryptPasswordEncoder(int cost) {
+        super(cost);
+        this.cost = cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        Matcher matcher = COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != cost;
+    }
+}
@@ -0,0 +1,44 @@
+package com.surest_member_managemant.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+// application/cbor for clients that ask for it. Spring MVC already registers a CBOR converter, but over a
+// mapper of its own that ignores the application's Jackson settings (dates would go out as arrays), and it
+// sits ahead of anything appended. It is replaced in place, after the JSON converter, so endpoints without
+// an explicit produces list keep answering */* with JSON.
+@Configuration
+public class CborConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    public CborConfig(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Same modules and features as the JSON mapper, only the wire encoding differs
+        MappingJackson2CborHttpMessageConverter cbor =
+                new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory()));
+        int index = -1;
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2CborHttpMessageConverter) {
+                index = i;
+                break;
+            }
+        }
+        converters.removeIf(MappingJackson2CborHttpMessageConverter.class::isInstance);
+        if (index >= 0) {
+            converters.add(index, cbor);
+        } else {
+            converters.add(cbor);
+        }
+    }
+}
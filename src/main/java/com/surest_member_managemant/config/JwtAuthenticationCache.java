@@ -0,0 +1,105 @@
+package com.surest_member_managemant.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class JwtAuthenticationCache {
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, CachedAuthentication> cache;
+
+    // Bounded LRU of verified tokens, keyed by SHA-256 of the token so raw tokens are never retained
+    public JwtAuthenticationCache(JwtUtil jwtUtil,
+                                  @Value("${app.jwt.cache.maximum-size:10000}") long maximumSize,
+                                  MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtAuthentication");
+    }
+
+    // Resolve a bearer token to an Authentication; signature and claims are only checked on a miss
+    public Optional<Authentication> authenticate(String token) {
+        String key = digest(token);
+        CachedAuthentication cached = cache.get(key, k -> verify(token));
+        if (cached == null) {
+            return Optional.empty();
+        }
+        // Never hand out authorities past the token's exp, even if eviction has not run yet
+        if (cached.expiresAt() != null && !cached.expiresAt().isAfter(Instant.now())) {
+            cache.invalidate(key);
+            return Optional.empty();
+        }
+        // A fresh token per request: the filter chain and Spring Security mutate it (details, erased
+        // credentials), so one shared instance would leak that state between concurrent requests
+        return Optional.of(new UsernamePasswordAuthenticationToken(cached.subject(), null, cached.authorities()));
+    }
+
+    private CachedAuthentication verify(String token) {
+        return jwtUtil.verify(token)
+                .map(verified -> new CachedAuthentication(
+                        verified.getSubject(),
+                        verified.getRoles().stream()
+                                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                                .toList(),
+                        verified.getExpiresAt()))
+                .orElse(null);
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // Only immutable parts are cached: the subject, an unmodifiable authority list and the expiry
+    private record CachedAuthentication(String subject, List<GrantedAuthority> authorities, Instant expiresAt) {
+    }
+
+    // Each entry lives exactly until its token's exp; tokens without exp are not kept
+    private static final class UntilTokenExpiry implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            if (value.expiresAt() == null) {
+                return 0;
+            }
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -4,8 +4,6 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -15,10 +13,10 @@ import java.io.IOException;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
-// Initialize with JwtUtil
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+// Initialize with the verified-token cache
+    public JwtAuthenticationFilter(JwtAuthenticationCache jwtAuthenticationCache) {
+        this.jwtAuthenticationCache = jwtAuthenticationCache;
     }
 // Extract and validate JWT from Authorization header
     @Override
@@ -30,13 +28,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String authHeader = request.getHeader("Authorization");
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
-            if (jwtUtil.validateToken(token)) {
-                String username = jwtUtil.getUsername(token);
-                var authorities = jwtUtil.getRoles(token).stream()
-                        .map(SimpleGrantedAuthority::new)
-                        .toList();
-                var authToken = new UsernamePasswordAuthenticationToken(username, null, authorities);
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+            var authentication = jwtAuthenticationCache.authenticate(token);
+            if (authentication.isPresent()) {
+                SecurityContextHolder.getContext().setAuthentication(authentication.get());
             }else {
                 handleInvalidToken(response, "Token is invalid or expired");
                 return; // stop filter chain
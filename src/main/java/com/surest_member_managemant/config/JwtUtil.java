@@ -13,11 +13,14 @@ public class JwtUtil {
 
     private final SecretKey key;
     private final long expirationMs;
+    // Built once; the parser is immutable and thread-safe
+    private final JwtParser parser;
 // Initialize with secret key and expiration from application properties
     public JwtUtil(@Value("${app.jwt.secret}") String secret,
                    @Value("${app.jwt.expiration-ms}") long expirationMs) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
         this.expirationMs = expirationMs;
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 //Token generation with username and roles
     public String generateToken(String username, List<String> roles) {
@@ -33,9 +36,23 @@ public class JwtUtil {
                 .compact();
     }
 
+// Verify signature and expiry once and extract subject, roles and expiry in the same pass
+    public Optional<VerifiedToken> verify(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Date exp = claims.getExpiration();
+            return Optional.of(new VerifiedToken(
+                    claims.getSubject(),
+                    extractRoles(claims),
+                    exp != null ? exp.toInstant() : null));
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            parser.parseClaimsJws(token);
             return true;
         } catch (JwtException | IllegalArgumentException ex) {
             return false;
@@ -43,13 +60,15 @@ public class JwtUtil {
     }
 //Extract username and roles from token
     public String getUsername(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token).getBody().getSubject();
+        return parser.parseClaimsJws(token).getBody().getSubject();
     }
 // Extract roles from token
     public List<String> getRoles(String token) {
-        Object roles = Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token).getBody().get("roles");
+        return extractRoles(parser.parseClaimsJws(token).getBody());
+    }
+
+    private List<String> extractRoles(Claims claims) {
+        Object roles = claims.get("roles");
         if (roles instanceof List) {
             return ((List<?>) roles).stream()
                     .map(Object::toString)
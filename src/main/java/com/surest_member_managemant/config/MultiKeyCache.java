@@ -0,0 +1,19 @@
+package com.surest_member_managemant.config;
+
+import org.springframework.cache.Cache;
+
+import java.util.Collection;
+import java.util.Map;
+
+// A cache that can read, fill and evict many keys in one round trip. TwoTierCache uses it for the shared
+// tier when a batch misses L1; any other shared Cache is driven key by key.
+public interface MultiKeyCache extends Cache {
+
+    // Live entries only, keyed by the keys passed in; absent keys are simply missing from the result
+    Map<Object, Object> getAllPresent(Collection<?> keys);
+
+    // Entries already present (and live) are kept
+    void putAllIfAbsent(Map<?, ?> entries);
+
+    void evictAll(Collection<?> keys);
+}
@@ -0,0 +1,232 @@
+package com.surest_member_managemant.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+// One region of the shared tier. Keys are stored in their string form, values JDK-serialized; expiry uses
+// the database clock so every node agrees on it. Each call takes its own autocommit connection, so it
+// never joins, delays or reroutes the caller's transaction. Failures are logged and read as misses.
+@Slf4j
+public class PostgresSharedCache extends AbstractValueAdaptingCache implements MultiKeyCache {
+
+    private static final String SELECT = "SELECT value FROM surestdatabase.shared_cache_entry " +
+            "WHERE region = ? AND cache_key = ? AND (expires_at IS NULL OR expires_at > now())";
+    private static final String SELECT_ALL = "SELECT cache_key, value FROM surestdatabase.shared_cache_entry " +
+            "WHERE region = ? AND cache_key = ANY(?) AND (expires_at IS NULL OR expires_at > now())";
+    private static final String UPSERT = "INSERT INTO surestdatabase.shared_cache_entry (region, cache_key, value, expires_at) " +
+            "VALUES (?, ?, ?, now() + ? * interval '1 millisecond') " +
+            "ON CONFLICT (region, cache_key) DO UPDATE SET value = EXCLUDED.value, expires_at = EXCLUDED.expires_at";
+    // Only an expired row is replaced; a live one wins
+    private static final String INSERT_IF_ABSENT = "INSERT INTO surestdatabase.shared_cache_entry AS e (region, cache_key, value, expires_at) " +
+            "VALUES (?, ?, ?, now() + ? * interval '1 millisecond') " +
+            "ON CONFLICT (region, cache_key) DO UPDATE SET value = EXCLUDED.value, expires_at = EXCLUDED.expires_at " +
+            "WHERE e.expires_at <= now()";
+    private static final String DELETE = "DELETE FROM surestdatabase.shared_cache_entry WHERE region = ? AND cache_key = ?";
+    private static final String DELETE_ALL = "DELETE FROM surestdatabase.shared_cache_entry WHERE region = ? AND cache_key = ANY(?)";
+    private static final String DELETE_REGION = "DELETE FROM surestdatabase.shared_cache_entry WHERE region = ?";
+
+    private final String name;
+    private final DataSource dataSource;
+    private final Duration timeToLive;
+    private final SerializingConverter serializer = new SerializingConverter();
+    private final DeserializingConverter deserializer = new DeserializingConverter(PostgresSharedCache.class.getClassLoader());
+
+    public PostgresSharedCache(String name, DataSource dataSource, Duration timeToLive) {
+        super(false);
+        this.name = name;
+        this.dataSource = dataSource;
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return dataSource;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT)) {
+            statement.setString(1, name);
+            statement.setString(2, String.valueOf(key));
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? deserializer.convert(rs.getBytes(1)) : null;
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Shared cache read failed for {}: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    // One SELECT for the whole batch; rows come back under their string key and are mapped to the caller's key
+    @Override
+    public Map<Object, Object> getAllPresent(Collection<?> keys) {
+        Map<String, Object> byString = stringKeys(keys);
+        Map<Object, Object> found = new HashMap<>();
+        if (byString.isEmpty()) {
+            return found;
+        }
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_ALL)) {
+            statement.setString(1, name);
+            statement.setArray(2, connection.createArrayOf("varchar", byString.keySet().toArray()));
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    found.put(byString.get(rs.getString(1)), deserializer.convert(rs.getBytes(2)));
+                }
+            }
+            return found;
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Shared cache read failed for {}: {}", name, e.getMessage());
+            return new HashMap<>();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        write(UPSERT, key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (value == null) {
+            return get(key);
+        }
+        return write(INSERT_IF_ABSENT, key, value) ? null : get(key);
+    }
+
+    // One JDBC batch, sent together rather than statement by statement
+    @Override
+    public void putAllIfAbsent(Map<?, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(INSERT_IF_ABSENT)) {
+            for (Map.Entry<?, ?> entry : entries.entrySet()) {
+                if (entry.getValue() != null) {
+                    bind(statement, entry.getKey(), entry.getValue());
+                    statement.addBatch();
+                }
+            }
+            statement.executeBatch();
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Shared cache write failed for {}: {}", name, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evictAll(Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(DELETE_ALL)) {
+            statement.setString(1, name);
+            statement.setArray(2, connection.createArrayOf("varchar", stringKeys(keys).keySet().toArray()));
+            statement.executeUpdate();
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Shared cache eviction failed for {}: {}", name, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictIfPresent(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return update(DELETE, String.valueOf(key)) > 0;
+    }
+
+    @Override
+    public void clear() {
+        update(DELETE_REGION, null);
+    }
+
+    // True when the row was written
+    private boolean write(String sql, Object key, Object value) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            bind(statement, key, value);
+            return statement.executeUpdate() > 0;
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Shared cache write failed for {}: {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    private void bind(PreparedStatement statement, Object key, Object value) throws SQLException {
+        statement.setString(1, name);
+        statement.setString(2, String.valueOf(key));
+        statement.setBytes(3, serializer.convert(value));
+        if (timeToLive != null) {
+            statement.setLong(4, timeToLive.toMillis());
+        } else {
+            statement.setNull(4, Types.BIGINT);
+        }
+    }
+
+    private static Map<String, Object> stringKeys(Collection<?> keys) {
+        Map<String, Object> byString = new HashMap<>();
+        for (Object key : keys) {
+            byString.put(String.valueOf(key), key);
+        }
+        return byString;
+    }
+
+    private int update(String sql, String key) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, name);
+            if (key != null) {
+                statement.setString(2, key);
+            }
+            return statement.executeUpdate();
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Shared cache eviction failed for {}: {}", name, e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.surest_member_managemant.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// The shared (L2) tier behind every TwoTierCache: one UNLOGGED Postgres table that all nodes read, so a
+// member one node loaded is a hit on the others. Regions keep the TTL of their L1 (expire-after-write).
+@Slf4j
+public class PostgresSharedCacheManager implements CacheManager, DisposableBean {
+
+    private final ConcurrentMap<String, PostgresSharedCache> caches = new ConcurrentHashMap<>();
+    private final DataSource dataSource;
+    private final CacheRegionProperties properties;
+
+    public PostgresSharedCacheManager(DataSource dataSource, CacheRegionProperties properties) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, region -> new PostgresSharedCache(region, dataSource, timeToLive(region)));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private Duration timeToLive(String region) {
+        CacheRegionProperties.Region settings = properties.getRegions().get(region);
+        return settings != null && settings.getExpireAfterWrite() != null
+                ? settings.getExpireAfterWrite()
+                : properties.getDefaults().getExpireAfterWrite();
+    }
+
+    // Reads already skip expired rows; this only reclaims the space
+    @Scheduled(fixedDelayString = "${app.cache.shared.purge-interval:10m}")
+    public void purgeExpired() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            int purged = statement.executeUpdate("DELETE FROM surestdatabase.shared_cache_entry WHERE expires_at <= now()");
+            log.debug("Purged {} expired shared cache entries", purged);
+        } catch (SQLException e) {
+            log.warn("Shared cache purge failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
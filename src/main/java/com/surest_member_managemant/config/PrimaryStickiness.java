@@ -0,0 +1,39 @@
+package com.surest_member_managemant.config;
+
+import java.util.function.Supplier;
+
+// Per-thread flag set once a request has written; later read-only work in the same request then
+// stays on the primary instead of reading a replica that may not have the write yet
+public final class PrimaryStickiness {
+
+    private static final ThreadLocal<Boolean> STICKY = new ThreadLocal<>();
+
+    private PrimaryStickiness() {}
+
+    public static void mark() {
+        STICKY.set(Boolean.TRUE);
+    }
+
+    public static boolean isSticky() {
+        return STICKY.get() != null;
+    }
+
+    public static void clear() {
+        STICKY.remove();
+    }
+
+    // Runs work with its reads pinned to the primary, then restores the previous state. For reads whose
+    // result outlives the request, such as cache fills, where a lagging replica's copy would be kept.
+    // The connection is resolved lazily, so this must wrap the transaction's first statement.
+    public static <T> T onPrimary(Supplier<T> work) {
+        boolean wasSticky = isSticky();
+        mark();
+        try {
+            return work.get();
+        } finally {
+            if (!wasSticky) {
+                clear();
+            }
+        }
+    }
+}
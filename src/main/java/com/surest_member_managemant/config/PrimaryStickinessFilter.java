@@ -0,0 +1,28 @@
+package com.surest_member_managemant.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Scopes primary stickiness and the replica-read record to one request
+public class PrimaryStickinessFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain chain) throws ServletException, IOException {
+        PrimaryStickiness.clear();
+        ReplicaReads.clear();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            PrimaryStickiness.clear();
+            ReplicaReads.clear();
+        }
+    }
+}
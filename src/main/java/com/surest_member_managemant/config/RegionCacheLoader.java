@@ -0,0 +1,9 @@
+package com.surest_member_managemant.config;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+
+// Reloads entries of one cache region; required for refresh-after-write on that region
+public interface RegionCacheLoader extends CacheLoader<Object, Object> {
+
+    String region();
+}
@@ -0,0 +1,80 @@
+package com.surest_member_managemant.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Polls each replica's replay lag; replicas over the budget or unreachable are taken out of rotation
+@Slf4j
+public class ReplicaLagMonitor {
+
+    // Zero when everything received has been replayed, so an idle primary does not read as lag
+    private static final String LAG_SQL = """
+            SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END""";
+
+    private final Map<String, DataSource> dataSources;
+    private final Map<String, JdbcTemplate> replicas = new LinkedHashMap<>();
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private final Duration maxLag;
+    private volatile List<String> healthy = List.of();
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, Duration maxLag, MeterRegistry meterRegistry) {
+        this.dataSources = Map.copyOf(replicas);
+        this.maxLag = maxLag;
+        replicas.forEach((name, dataSource) -> {
+            this.replicas.put(name, new JdbcTemplate(dataSource));
+            Gauge.builder("datasource.replica.lag", lagSeconds, lags -> lags.getOrDefault(name, Double.NaN))
+                    .tag("replica", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        });
+    }
+
+    public Map<String, DataSource> replicaDataSources() {
+        return dataSources;
+    }
+
+    public List<String> healthyReplicas() {
+        return healthy;
+    }
+
+    // In rotation but not fully replayed at the last check; unknown lag counts as behind
+    public boolean isBehind(String name) {
+        Double lag = lagSeconds.get(name);
+        return lag == null || !(lag == 0);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.lag-check-interval:1s}")
+    public void check() {
+        List<String> inRotation = new ArrayList<>();
+        replicas.forEach((name, jdbcTemplate) -> {
+            try {
+                Double lag = jdbcTemplate.queryForObject(LAG_SQL, Double.class);
+                double seconds = lag != null ? lag : Double.NaN;
+                lagSeconds.put(name, seconds);
+                if (seconds <= maxLag.toMillis() / 1000.0) {
+                    inRotation.add(name);
+                }
+            } catch (RuntimeException e) {
+                lagSeconds.remove(name);
+                log.warn("Replica {} unavailable, routing its reads to the primary: {}", name, e.getMessage());
+            }
+        });
+        if (!inRotation.equals(healthy)) {
+            log.info("Replicas in rotation: {}", inRotation);
+        }
+        healthy = List.copyOf(inRotation);
+    }
+}
@@ -0,0 +1,28 @@
+package com.surest_member_managemant.config;
+
+// Per-thread record of where the last connection was routed: whether it was a replica the lag monitor
+// saw behind the primary. Hot reads stay on replicas, but a result read from a lagging replica may predate
+// a committed write, so it is returned without being cached (a cached copy would outlive the lag).
+public final class ReplicaReads {
+
+    private static final ThreadLocal<Boolean> BEHIND = new ThreadLocal<>();
+
+    private ReplicaReads() {}
+
+    public static void record(boolean behind) {
+        if (behind) {
+            BEHIND.set(Boolean.TRUE);
+        } else {
+            BEHIND.remove();
+        }
+    }
+
+    // Used as @Cacheable(unless = ...) and before back-filling caches
+    public static boolean fromLaggingReplica() {
+        return BEHIND.get() != null;
+    }
+
+    public static void clear() {
+        BEHIND.remove();
+    }
+}
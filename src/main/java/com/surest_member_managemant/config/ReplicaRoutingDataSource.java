@@ -0,0 +1,47 @@
+package com.surest_member_managemant.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Read-only transactions go round-robin to replicas that are within the lag budget; everything
+// else, and any read after a write in the same request, goes to the primary. Must sit behind a
+// LazyConnectionDataSourceProxy so the key is resolved after the transaction's read-only flag is set.
+// Reads from a replica that is behind are noted in ReplicaReads so their results are not cached.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String key = route();
+        ReplicaReads.record(!PRIMARY.equals(key) && lagMonitor.isBehind(key));
+        return key;
+    }
+
+    private String route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                PrimaryStickiness.mark();
+            }
+            return PRIMARY;
+        }
+        if (PrimaryStickiness.isSticky()) {
+            return PRIMARY;
+        }
+        List<String> healthy = lagMonitor.healthyReplicas();
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+    }
+}
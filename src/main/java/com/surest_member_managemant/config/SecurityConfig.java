@@ -1,17 +1,24 @@
 package com.surest_member_managemant.config;
 
+import com.surest_member_managemant.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+import java.util.Map;
+
 @Configuration
 @RequiredArgsConstructor
 public class SecurityConfig {
@@ -40,13 +47,35 @@ public class SecurityConfig {
     }
 
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    // BCrypt on its own bounded pool; sized for CPU, since each check is pure hashing. No queue by default:
+    // a login that finds every hashing thread busy gets a 503 instead of parking a servlet thread.
+    // New hashes are written as {bcrypt}; legacy unprefixed hashes still verify and get rehashed.
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(@Value("${app.security.password-encoder.threads:2}") int threads,
+                                           @Value("${app.security.password-encoder.queue-capacity:0}") int queueCapacity,
+                                           @Value("${app.security.bcrypt.cost:#{null}}") Integer fixedCost,
+                                           @Value("${app.security.bcrypt.target-verify-time:100ms}") Duration targetVerifyTime,
+                                           @Value("${app.security.bcrypt.min-cost:10}") int minCost,
+                                           @Value("${app.security.bcrypt.max-cost:14}") int maxCost,
+                                           MeterRegistry meterRegistry) {
+        int cost = fixedCost != null ? fixedCost : BCryptCostCalibrator.calibrate(targetVerifyTime, minCost, maxCost);
+        PasswordEncoder bcrypt = new CalibratedBCryptPasswordEncoder(cost);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return new BoundedPasswordEncoder(delegating, threads, queueCapacity, meterRegistry);
     }
 
+    // Single provider with a UserDetails cache: a warm login does no DB read, a cold one does one
     @Bean
-    public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
-        return config.getAuthenticationManager();
+    public AuthenticationManager authenticationManager(CustomUserDetailsService userDetailsService,
+                                                       BoundedPasswordEncoder passwordEncoder,
+                                                       UserDetailsCache userDetailsCache) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
+        // Checks fail fast when the pool is full; the rehash after a verified login never does
+        provider.setPasswordEncoder(passwordEncoder.forAuthentication());
+        provider.setUserCache(userDetailsCache);
+        // Rehash on successful login when the stored hash is not at the current cost
+        provider.setUserDetailsPasswordService(userDetailsService);
+        return new ProviderManager(provider);
     }
 }
@@ -0,0 +1,33 @@
+package com.surest_member_managemant.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// Enabled with app.cache.shared.enabled=true. The tier gets its own small pool on the primary: cache calls
+// made inside a transaction then never compete with it for a connection, and never land on a replica.
+@Configuration
+@ConditionalOnProperty(name = "app.cache.shared.enabled", havingValue = "true")
+public class SharedCacheConfig {
+
+    @Bean
+    public PostgresSharedCacheManager sharedCacheManager(DataSourceProperties dataSourceProperties,
+                                                         CacheRegionProperties cacheProperties,
+                                                         @Value("${app.cache.shared.pool-size:4}") int poolSize,
+                                                         @Value("${app.cache.shared.connection-timeout:250ms}") Duration connectionTimeout) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("shared-cache");
+        dataSource.setJdbcUrl(dataSourceProperties.determineUrl());
+        dataSource.setUsername(dataSourceProperties.determineUsername());
+        dataSource.setPassword(dataSourceProperties.determinePassword());
+        dataSource.setMaximumPoolSize(poolSize);
+        // A slow tier should read as a miss, not hold up the request
+        dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+        return new PostgresSharedCacheManager(dataSource, cacheProperties);
+    }
+}
@@ -0,0 +1,284 @@
+package com.surest_member_managemant.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+// Near-cache (L1, Caffeine) in front of an optional shared tier (L2). Evictions are broadcast so peer
+// nodes drop their L1 copy; L2 is shared, so it is updated in place.
+// Inside a transaction, puts reach the tiers only once it commits and evictions are repeated after
+// commit, so a rollback never leaves values behind whichever way the cache and transaction advice nest.
+public class TwoTierCache implements Cache {
+
+    private final CaffeineCache local;
+    private final Cache shared;
+    private final CacheInvalidationPublisher publisher;
+
+    public TwoTierCache(CaffeineCache local, Cache shared, CacheInvalidationPublisher publisher) {
+        this.local = local;
+        this.shared = shared;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public com.github.benmanes.caffeine.cache.Cache<Object, Object> getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    // L1 is read without its loader (CaffeineCache.get would run a region's RegionCacheLoader on a miss),
+    // so a miss tries L2 next. A miss in both is left to the caller (the @Cacheable method, which reads a
+    // replica); the loader only refreshes entries in the background.
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = getLocal(key);
+        if (value != null || shared == null) {
+            return value;
+        }
+        value = shared.get(key);
+        if (value != null) {
+            local.put(key, value.get());
+        }
+        return value;
+    }
+
+    // Multi-get: one L1 lookup for the whole batch, then one L2 lookup for everything L1 missed
+    public Map<Object, Object> getAllPresent(Collection<?> keys) {
+        Map<Object, Object> found = new HashMap<>(local.getNativeCache().getAllPresent(keys));
+        if (shared != null && found.size() < keys.size()) {
+            List<Object> misses = keys.stream().filter(key -> !found.containsKey(key)).map(Object.class::cast).toList();
+            Map<Object, Object> fromShared = sharedGetAll(misses);
+            local.getNativeCache().putAll(fromShared);
+            found.putAll(fromShared);
+        }
+        return found;
+    }
+
+    // Back-fill after a batch read. Entries already cached (say, by an update that committed meanwhile) are
+    // kept. Like put, it waits for the reader's transaction to commit and is not broadcast.
+    public void putAllIfAbsent(Map<?, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (!afterCommit(() -> putAllIfAbsentTiers(entries))) {
+            putAllIfAbsentTiers(entries);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        Object stored = value != null ? value.get() : null;
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + stored);
+        }
+        return (T) stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (shared == null) {
+            return local.get(key, valueLoader);
+        }
+        return local.get(key, () -> {
+            ValueWrapper value = shared.get(key);
+            if (value != null) {
+                return (T) value.get();
+            }
+            T loaded = valueLoader.call();
+            shared.put(key, loaded);
+            return loaded;
+        });
+    }
+
+    // Populating an entry (a @Cacheable miss, a cached login) is not a change, so it stays on this node and
+    // nothing is broadcast. Writes invalidate with evict/clear, which peers hear about.
+    @Override
+    public void put(Object key, Object value) {
+        if (!afterCommit(() -> putTiers(key, value))) {
+            putTiers(key, value);
+        }
+    }
+
+    // Write-through after an update: this node's L1 and L2 take the new value once the transaction commits,
+    // and peers are told to drop their now-stale L1 copy (they reload it from L2 or the database)
+    public void putAndEvictPeers(Object key, Object value) {
+        put(key, value);
+        publishEvict(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (shared != null) {
+            shared.putIfAbsent(key, value);
+        }
+        return local.putIfAbsent(key, value);
+    }
+
+    // Evicting again after commit drops a copy a concurrent reader loaded from the pre-commit row
+    @Override
+    public void evict(Object key) {
+        evictTiers(key);
+        afterCommit(() -> evictTiers(key));
+        publishEvict(key);
+    }
+
+    // Batch eviction: one Caffeine invalidateAll, one L2 delete and one broadcast for the whole set
+    public void evictAll(Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        evictTiers(keys);
+        afterCommit(() -> evictTiers(keys));
+        if (publisher != null) {
+            publisher.publishEvictAll(getName(), keys);
+        }
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        if (shared != null) {
+            shared.evictIfPresent(key);
+        }
+        boolean present = local.evictIfPresent(key);
+        afterCommit(() -> evictTiers(key));
+        publishEvict(key);
+        return present;
+    }
+
+    // @CacheEvict(allEntries = true) lands here, e.g. every member write clearing memberPages. A page read
+    // while the write was in flight still holds the old rows, so the region is cleared again after commit.
+    @Override
+    public void clear() {
+        clearTiers();
+        afterCommit(this::clearTiers);
+        if (publisher != null) {
+            publisher.publishClear(getName());
+        }
+    }
+
+    // Drop keys named by a peer. Keys travel as strings, so each is invalidated in its string form and,
+    // where it parses as one, as a UUID (the members region); both are direct lookups, not a scan.
+    void evictLocal(String key) {
+        local.getNativeCache().invalidateAll(localKeys(List.of(key)));
+    }
+
+    void evictLocal(Collection<String> keys) {
+        local.getNativeCache().invalidateAll(localKeys(keys));
+    }
+
+    void clearLocal() {
+        local.clear();
+    }
+
+    private static List<Object> localKeys(Collection<String> keys) {
+        List<Object> candidates = new ArrayList<>(keys.size() * 2);
+        for (String key : keys) {
+            candidates.add(key);
+            try {
+                candidates.add(UUID.fromString(key));
+            } catch (IllegalArgumentException e) {
+                // not a UUID key
+            }
+        }
+        return candidates;
+    }
+
+    private ValueWrapper getLocal(Object key) {
+        Object stored = local.getNativeCache().getIfPresent(key);
+        if (stored == null) {
+            return null;
+        }
+        return new SimpleValueWrapper(stored instanceof NullValue ? null : stored);
+    }
+
+    private void putTiers(Object key, Object value) {
+        if (shared != null) {
+            shared.put(key, value);
+        }
+        local.put(key, value);
+    }
+
+    private void evictTiers(Object key) {
+        if (shared != null) {
+            shared.evict(key);
+        }
+        local.evict(key);
+    }
+
+    private void putAllIfAbsentTiers(Map<?, ?> entries) {
+        if (shared instanceof MultiKeyCache batch) {
+            batch.putAllIfAbsent(entries);
+        } else if (shared != null) {
+            entries.forEach(shared::putIfAbsent);
+        }
+        entries.forEach(local::putIfAbsent);
+    }
+
+    private Map<Object, Object> sharedGetAll(List<Object> keys) {
+        if (shared instanceof MultiKeyCache batch) {
+            return batch.getAllPresent(keys);
+        }
+        Map<Object, Object> found = new HashMap<>();
+        for (Object key : keys) {
+            ValueWrapper value = shared.get(key);
+            if (value != null) {
+                found.put(key, value.get());
+            }
+        }
+        return found;
+    }
+
+    private void clearTiers() {
+        if (shared != null) {
+            shared.clear();
+        }
+        local.clear();
+    }
+
+    private void evictTiers(Collection<?> keys) {
+        if (shared instanceof MultiKeyCache batch) {
+            batch.evictAll(keys);
+        } else if (shared != null) {
+            keys.forEach(shared::evict);
+        }
+        local.getNativeCache().invalidateAll(keys);
+    }
+
+    // Runs the action once the current transaction commits; false when there is no transaction to wait for
+    private static boolean afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+        return true;
+    }
+
+    private void publishEvict(Object key) {
+        if (publisher != null) {
+            publisher.publishEvict(getName(), key);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.surest_member_managemant.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+// Creates a TwoTierCache per region on first use and routes peer invalidations to the local tier
+public class TwoTierCacheManager implements CacheManager {
+
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final Function<String, TwoTierCache> cacheFactory;
+
+    public TwoTierCacheManager(Function<String, TwoTierCache> cacheFactory) {
+        this.cacheFactory = cacheFactory;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheFactory);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    // A null key means the peer cleared the whole region
+    void evictLocal(String cacheName, String key) {
+        TwoTierCache cache = caches.get(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (key == null) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(key);
+        }
+    }
+
+    void evictLocal(String cacheName, Collection<String> keys) {
+        TwoTierCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.evictLocal(keys);
+        }
+    }
+
+    // Used after the invalidation channel drops, since broadcasts may have been missed
+    void clearLocal() {
+        caches.values().forEach(TwoTierCache::clearLocal);
+    }
+}
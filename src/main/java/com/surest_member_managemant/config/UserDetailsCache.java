@@ -0,0 +1,41 @@
+package com.surest_member_managemant.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+// UserCache over the "users" region (bounded, TTL, cross-node eviction). Entries are copied in
+// and out because ProviderManager erases credentials on the principal it hands back. A cold login
+// only fills this node's entry; removeUserFromCache and clear are what peers hear about.
+@Component
+public class UserDetailsCache implements UserCache {
+
+    private final Cache cache;
+
+    public UserDetailsCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache("users");
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        UserDetails cached = cache.get(username, UserDetails.class);
+        return cached != null ? User.withUserDetails(cached).build() : null;
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        cache.put(user.getUsername(), User.withUserDetails(user).build());
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        cache.evict(username);
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+}
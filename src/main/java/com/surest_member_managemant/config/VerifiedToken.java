@@ -0,0 +1,14 @@
+package com.surest_member_managemant.config;
+
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.List;
+
+// Immutable result of a single signature check on a bearer token
+@Value
+public class VerifiedToken {
+    String subject;
+    List<String> roles;
+    Instant expiresAt;
+}
@@ -7,5 +7,12 @@ public final  class ApiConstants {
     public static final String MESSAGE = "message";
     public static final String ERRORS = "errors";
     public static final String INTERNAL_SERVER_ERROR = "Internal Server Error";
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+    // RFC 8742: concatenated CBOR items, the binary counterpart of NDJSON
+    public static final String CBOR_SEQ_VALUE = "application/cbor-seq";
+    // Sent by EventSource when it reconnects to a text/event-stream
+    public static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
 }
 
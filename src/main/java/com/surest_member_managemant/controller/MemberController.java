@@ -1,7 +1,24 @@
 package com.surest_member_managemant.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.surest_member_managemant.constants.ApiConstants;
+import com.surest_member_managemant.dto.CursorPage;
+import com.surest_member_managemant.dto.MemberBulkResponse;
+import com.surest_member_managemant.dto.MemberBulkUpdateRequest;
+import com.surest_member_managemant.dto.MemberDeltaResponse;
+import com.surest_member_managemant.dto.MemberIdsRequest;
+import com.surest_member_managemant.dto.MemberImportResponse;
+import com.surest_member_managemant.dto.MemberLookupResponse;
 import com.surest_member_managemant.dto.MemberRequest;
 import com.surest_member_managemant.dto.MemberResponse;
+import com.surest_member_managemant.dto.PageResponse;
+import com.surest_member_managemant.service.MemberBulkService;
+import com.surest_member_managemant.service.MemberChangeFeed;
+import com.surest_member_managemant.service.MemberDataFormat;
+import com.surest_member_managemant.service.MemberDeltaService;
+import com.surest_member_managemant.service.MemberExportService;
+import com.surest_member_managemant.service.MemberImportService;
+import com.surest_member_managemant.service.MemberLookupService;
 import com.surest_member_managemant.service.MemberService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -10,7 +27,11 @@ import org.springframework.data.domain.*;
 import org.springframework.http.*;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.UUID;
 
 @Slf4j
@@ -19,11 +40,18 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class MemberController {
     private final MemberService memberService;
+    private final MemberImportService memberImportService;
+    private final MemberExportService memberExportService;
+    private final MemberLookupService memberLookupService;
+    private final MemberBulkService memberBulkService;
+    private final MemberChangeFeed memberChangeFeed;
+    private final MemberDeltaService memberDeltaService;
 
 
-     // Create a new member (Admin only)
+     // Create a new member (Admin only). Every member endpoint also speaks application/cbor; JSON stays the default.
 
-    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<MemberResponse> createMember(@Valid @RequestBody MemberRequest request) {
         log.info("Creating new member: {}", request.getFirstName());
@@ -33,50 +61,208 @@ public class MemberController {
     }
 
 
+     // Bulk import from NDJSON, CSV or a CBOR sequence (Admin only). The body is streamed; the response reports per-row failures.
+
+    @PostMapping(value = "/import",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, ApiConstants.TEXT_CSV_VALUE, ApiConstants.CBOR_SEQ_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<MemberImportResponse> importMembers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws IOException {
+        log.info("Importing members ({})", contentType);
+        MemberImportResponse response = memberImportService.importMembers(body, MemberDataFormat.fromMediaType(contentType));
+        log.debug("Member import result: received={}, imported={}", response.getReceived(), response.getImported());
+        return ResponseEntity.ok(response);
+    }
+
+
+     // Full roster export as NDJSON (default), CSV or a CBOR sequence, streamed from a database cursor (Admin only)
+
+    @GetMapping(value = "/export",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, ApiConstants.TEXT_CSV_VALUE, ApiConstants.CBOR_SEQ_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportMembers(
+            @RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = MediaType.APPLICATION_NDJSON_VALUE) String accept) {
+        MemberDataFormat format = MemberDataFormat.negotiate(MediaType.parseMediaTypes(accept), MemberDataFormat.NDJSON);
+        log.info("Exporting members ({})", format);
+        StreamingResponseBody body = out -> memberExportService.exportMembers(out, format);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=members." + format.getFileExtension())
+                .body(body);
+    }
+
+
      // Retrieve paginated list of members with optional filtering and sorting.Accessible to both USER and ADMIN roles.
+     // withTotal=false drops totalElements/totalPages and skips the COUNT(*) behind them.
 
-    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
     @PreAuthorize("hasAnyRole('USER','ADMIN')")
-    public ResponseEntity<Page<MemberResponse>> getAllMembers(
+    public ResponseEntity<PageResponse<MemberResponse>> getAllMembers(
             @RequestParam(required = false) String firstName,
             @RequestParam(required = false) String lastName,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "createdAt,desc") String sort) {
+            @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
 
         String[] sortParts = sort.split(",");
         String sortBy = sortParts[0];
         Sort.Direction direction = (sortParts.length > 1) ? Sort.Direction.fromString(sortParts[1]) : Sort.Direction.ASC;
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-        log.info("Fetching members (page={}, size={}, sortBy={}, direction={})", page, size, sortBy, direction);
+        log.info("Fetching members (page={}, size={}, sortBy={}, direction={}, withTotal={})", page, size, sortBy, direction, withTotal);
+
+        PageResponse<MemberResponse> members = memberService.getAllMembers(firstName, lastName, pageable, withTotal);
+        // Spring answers a matching If-None-Match with 304 and no body
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(MemberETags.weak(members.getContent(),
+                        members.getTotalElements() + "/" + members.isHasNext() + "/" + pageable))
+                .body(members);
+    }
+
+    // Keyset (cursor) pagination, newest first. Selected when the request carries ?after= (empty for the first page).
+
+    @GetMapping(params = "after", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public ResponseEntity<CursorPage<MemberResponse>> getMembersAfter(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String firstName,
+            @RequestParam(required = false) String lastName) {
 
-        Page<MemberResponse> members = memberService.getAllMembers(firstName, lastName, pageable);
-        return ResponseEntity.ok(members);
+        if (firstName != null || lastName != null) {
+            throw new IllegalArgumentException("Name filters are not supported with cursor pagination");
+        }
+        log.info("Fetching members after cursor (size={})", size);
+
+        CursorPage<MemberResponse> members = memberService.getMembersAfter(after, size);
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(MemberETags.weak(members.getContent(), members.getNextCursor()))
+                .body(members);
+    }
+
+    // Incremental sync (USER/ADMIN): members changed or deleted after ?since= (omit it for the first sync), in keyset pages.
+    // Store nextCursor and pass it next time; hasMore=true means call again now. 410 means start over without since.
+
+    @GetMapping(value = "/delta", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public ResponseEntity<MemberDeltaResponse> getMemberDelta(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int size) {
+        log.info("Fetching member delta (size={}, fromStart={})", size, since == null);
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(memberDeltaService.getChangesSince(since, size));
     }
 
-    // Get member by ID. Accessible to USER and ADMIN roles.
+    // Live member changes as Server-Sent Events (created/updated/deleted, id = outbox sequence), replacing list polling.
+    // Reconnecting with Last-Event-ID replays what was missed; a "reset" event means reload the list instead.
 
-    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     @PreAuthorize("hasAnyRole('USER','ADMIN')")
-    public ResponseEntity<MemberResponse> getMemberById(@PathVariable UUID id) {
+    public SseEmitter streamMemberChanges(
+            @RequestHeader(value = ApiConstants.LAST_EVENT_ID_HEADER, required = false) String lastEventId) {
+        log.info("Opening member change feed (lastEventId={})", lastEventId);
+        return memberChangeFeed.subscribe(lastEventId);
+    }
+
+    // Get member by ID with a strong ETag (its version, per format). Accessible to USER and ADMIN roles.
+
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public ResponseEntity<MemberResponse> getMemberById(@PathVariable UUID id, @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         log.info("Fetching member with ID: {}", id);
+        // Served from the members cache; a matching If-None-Match becomes a 304 without a body or DB access
         MemberResponse member = memberService.getMemberById(id);
-        return ResponseEntity.ok(member);
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(MemberETags.strong(member, MemberETags.representation(accept)))
+                .body(member);
     }
 
 
-     // Update existing member details (Admin only)
+     // Batch lookup of up to app.members.lookup.max-ids members in one call. Every requested id gets an entry,
+     // in request order; unknown ids come back with found=false. Accessible to USER and ADMIN roles.
 
-    @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PostMapping(value = "/lookup",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public ResponseEntity<MemberLookupResponse> lookupMembers(@Valid @RequestBody MemberIdsRequest request) {
+        log.info("Looking up {} members", request.getIds().size());
+        return ResponseEntity.ok(new MemberLookupResponse(memberLookupService.getMembers(request.getIds())));
+    }
+
+
+     // Update existing member details (Admin only). Conditional on the version the client read: in the body or as
+     // If-Match (the member's ETag). 428 without either, 409 when the member changed since.
+
+    @PutMapping(value = "/{id}",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<MemberResponse> updateMember(
             @PathVariable UUID id,
-            @Valid @RequestBody MemberRequest request) {
+            @Valid @RequestBody MemberRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         log.info("Updating member with ID: {}", id);
+        if (ifMatch != null) {
+            Long expected = MemberETags.version(ifMatch);
+            if (request.getVersion() != null && !request.getVersion().equals(expected)) {
+                throw new IllegalArgumentException("If-Match and version name different versions");
+            }
+            request.setVersion(expected);
+        }
         MemberResponse updatedMember = memberService.updateMember(id, request);
         log.debug("Member updated successfully: {}", updatedMember);
-        return ResponseEntity.ok(updatedMember);
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(MemberETags.strong(updatedMember, MemberETags.representation(accept)))
+                .body(updatedMember);
+    }
+
+     // Partially update a member with a JSON Merge Patch (RFC 7396); only changed columns are written (Admin only)
+
+    @PatchMapping(value = "/{id}", consumes = ApiConstants.MERGE_PATCH_JSON_VALUE,
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<MemberResponse> patchMember(@PathVariable UUID id, @RequestBody JsonNode patch,
+                                                      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        log.info("Patching member with ID: {}", id);
+        MemberResponse patched = memberService.patchMember(id, patch);
+        log.debug("Member patched successfully: {}", patched);
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(MemberETags.strong(patched, MemberETags.representation(accept)))
+                .body(patched);
+    }
+
+     // Bulk update (Admin only): set-based, chunked; reports affected, missing, conflicted and failed ids
+
+    @PostMapping(value = "/bulk-update",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<MemberBulkResponse> bulkUpdateMembers(@Valid @RequestBody MemberBulkUpdateRequest request) {
+        log.info("Bulk updating {} members", request.getMembers().size());
+        return ResponseEntity.ok(memberBulkService.updateMembers(request.getMembers()));
+    }
+
+     // Bulk delete (Admin only): set-based, chunked; reports deleted (affected) and missing ids
+
+    @PostMapping(value = "/bulk-delete",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<MemberBulkResponse> bulkDeleteMembers(@Valid @RequestBody MemberIdsRequest request) {
+        log.warn("Bulk deleting {} members", request.getIds().size());
+        return ResponseEntity.ok(memberBulkService.deleteMembers(request.getIds()));
     }
 
      // Delete a member by ID (Admin only)
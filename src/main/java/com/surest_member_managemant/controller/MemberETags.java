@@ -0,0 +1,87 @@
+package com.surest_member_managemant.controller;
+
+import com.surest_member_managemant.dto.MemberResponse;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+// ETags for member representations. A member's version changes on every write, so together with the media
+// type it is a strong validator: JSON and CBOR bodies differ byte for byte and must not share a strong tag.
+// List pages get a weak tag over the ids and versions they contain, which both formats may share.
+final class MemberETags {
+    private MemberETags() {}
+
+    // Falls back to a weak content tag for a member cached before versions existed
+    static String strong(MemberResponse member, MediaType representation) {
+        if (member.getVersion() == null) {
+            return weak(List.of(member), representation);
+        }
+        return MediaType.APPLICATION_JSON.equals(representation)
+                ? "\"" + member.getVersion() + "\""
+                : "\"" + member.getVersion() + "-" + representation.getSubtype() + "\"";
+    }
+
+    // The member version an If-Match header is conditional on: one strong tag as issued by strong(), in either
+    // format. "*", weak tags and lists cannot name a single version and are rejected.
+    static Long version(String ifMatch) {
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            throw new IllegalArgumentException("If-Match must be a single strong ETag of the member");
+        }
+        String value = tag.substring(1, tag.length() - 1);
+        int suffix = value.indexOf('-');
+        try {
+            return Long.parseLong(suffix < 0 ? value : value.substring(0, suffix));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match must be a single strong ETag of the member");
+        }
+    }
+
+    // The format content negotiation will pick for an endpoint producing JSON and CBOR. The tag has to be known
+    // before the body is written, since a matching If-None-Match is answered without converting it.
+    static MediaType representation(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return MediaType.APPLICATION_JSON;
+            }
+            if (type.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return MediaType.APPLICATION_CBOR;
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    static String weak(List<MemberResponse> members, Object pageState) {
+        StringBuilder state = new StringBuilder(String.valueOf(pageState));
+        for (MemberResponse member : members) {
+            state.append('|').append(member.getId()).append(':')
+                    .append(member.getVersion() != null ? member.getVersion() : "h" + member.hashCode());
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(state.toString().getBytes(StandardCharsets.UTF_8));
+            return "W/\"" + HexFormat.of().formatHex(hash, 0, 12) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.surest_member_managemant.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    // Opaque token to pass as ?after= for the next page; null on the last page
+    private String nextCursor;
+}
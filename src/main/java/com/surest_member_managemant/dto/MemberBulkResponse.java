@@ -0,0 +1,20 @@
+package com.surest_member_managemant.dto;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberBulkResponse {
+    private List<UUID> affected;
+    // No member with this id
+    private List<UUID> missing;
+    // Bulk update only: the supplied version no longer matches
+    private List<UUID> conflicted;
+    // Bulk update only: the row's chunk was rolled back, e.g. because an email was already taken
+    private List<UUID> failed;
+}
@@ -0,0 +1,24 @@
+package com.surest_member_managemant.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.UUID;
+
+// One row of a bulk update: the member id plus the same fields and version as a PUT
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@NoArgsConstructor
+public class MemberBulkUpdateItem extends MemberRequest {
+
+    @NotNull(message = "id is required")
+    private UUID id;
+
+    // There is no If-Match per row, so the version is required in the body
+    @Override
+    @NotNull(message = "version is required")
+    public Long getVersion() {
+        return super.getVersion();
+    }
+}
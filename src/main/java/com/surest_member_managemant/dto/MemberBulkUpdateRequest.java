@@ -0,0 +1,18 @@
+package com.surest_member_managemant.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberBulkUpdateRequest {
+
+    @NotEmpty(message = "members must not be empty")
+    private List<@NotNull(message = "members must not contain null") @Valid MemberBulkUpdateItem> members;
+}
@@ -0,0 +1,23 @@
+package com.surest_member_managemant.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.surest_member_managemant.entity.MemberEventType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberChangeEvent {
+    // Outbox row id; consumers de-duplicate on it since delivery is at-least-once
+    private long sequence;
+    private MemberEventType type;
+    private UUID memberId;
+    // State after the change; absent for deletes and bulk updates
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private MemberResponse member;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,21 @@
+package com.surest_member_managemant.dto;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberDeltaResponse {
+    // Members created or updated since the cursor, in change order
+    private List<MemberResponse> changed;
+    // Members deleted since the cursor
+    private List<UUID> deleted;
+    // Pass as ?since= next time; always present, so a caught-up client keeps its position
+    private String nextCursor;
+    // More changes are already available; call again right away
+    private boolean hasMore;
+}
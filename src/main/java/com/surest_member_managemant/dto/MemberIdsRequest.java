@@ -0,0 +1,18 @@
+package com.surest_member_managemant.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberIdsRequest {
+
+    @NotEmpty(message = "ids must not be empty")
+    private List<@NotNull(message = "ids must not contain null") UUID> ids;
+}
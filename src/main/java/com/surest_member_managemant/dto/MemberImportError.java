@@ -0,0 +1,14 @@
+package com.surest_member_managemant.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberImportError {
+    // 1-based line number in the uploaded body
+    private long line;
+    private String email;
+    private String message;
+}
@@ -0,0 +1,16 @@
+package com.surest_member_managemant.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberImportResponse {
+    private long received;
+    private long imported;
+    private long failed;
+    private List<MemberImportError> errors;
+}
@@ -0,0 +1,14 @@
+package com.surest_member_managemant.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberLookupResponse {
+    // One entry per requested id, in request order (duplicates included)
+    private List<MemberLookupResult> results;
+}
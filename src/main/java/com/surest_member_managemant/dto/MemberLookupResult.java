@@ -0,0 +1,26 @@
+package com.surest_member_managemant.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberLookupResult {
+    private UUID id;
+    // false marks an id with no member; member is then omitted
+    private boolean found;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private MemberResponse member;
+
+    public static MemberLookupResult found(MemberResponse member) {
+        return new MemberLookupResult(member.getId(), true, member);
+    }
+
+    public static MemberLookupResult notFound(UUID id) {
+        return new MemberLookupResult(id, false, null);
+    }
+}
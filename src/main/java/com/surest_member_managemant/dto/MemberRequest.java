@@ -33,4 +33,8 @@ public class MemberRequest {
     @NotBlank(message = "email is required")
     @Email(message = "email must be valid")
     private String email;
+
+    // Version the client last read; an update is rejected with 409 if the member changed since. A PUT may send
+    // it as If-Match instead; without either it is refused with 428.
+    private Long version;
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.surest_member_managemant.dto;
 
 import lombok.*;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.UUID;
 
@@ -9,10 +10,12 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class MemberResponse {
+// Serializable for the shared cache tier
+public class MemberResponse implements Serializable {
     private UUID id;
     private String firstName;
     private String lastName;
     private LocalDate dateOfBirth;
     private String email;
+    private Long version;
 }
\ No newline at end of file
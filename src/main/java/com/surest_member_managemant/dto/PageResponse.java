@@ -0,0 +1,26 @@
+package com.surest_member_managemant.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonPropertyOrder({"content", "page", "size", "hasNext", "totalElements", "totalPages"})
+// Serializable for the shared cache tier
+public class PageResponse<T> implements Serializable {
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    // Only present when the caller asked for ?withTotal=true; computing them costs a COUNT(*)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPages;
+}
@@ -2,7 +2,10 @@ package com.surest_member_managemant.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SourceType;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.UuidGenerator;
 import java.time.LocalDate;
@@ -10,13 +13,21 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "member", schema = "surestdatabase")
+@Table(name = "member", schema = "surestdatabase",
+        uniqueConstraints = @UniqueConstraint(name = Member.EMAIL_CONSTRAINT, columnNames = "email"),
+        indexes = {
+                @Index(name = "idx_member_created_at_id", columnList = "created_at DESC, id DESC"),
+                @Index(name = "idx_member_updated_at_id", columnList = "updated_at, id")})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate
 public class Member {
+    // Named so a duplicate email can be told apart from other integrity violations
+    public static final String EMAIL_CONSTRAINT = "uk_member_email";
+
     @Id
     @GeneratedValue
     @UuidGenerator
@@ -32,14 +43,22 @@ public class Member {
     @Column(name = "date_of_birth", nullable = false)
     private LocalDate dateOfBirth;
 
-    @Column(nullable = false, unique = true, length = 255)
+    @Column(nullable = false, length = 255)
     private String email;
 
-    @CreationTimestamp
+    // Both stamped by the database, like the set-based statements that write these columns with now();
+    // delta sync compares updated_at against the database clock
+    @CreationTimestamp(source = SourceType.DB)
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    @UpdateTimestamp
+    @UpdateTimestamp(source = SourceType.DB)
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    // Optimistic lock; bumped by every update
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
 }
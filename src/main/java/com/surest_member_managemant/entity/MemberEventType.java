@@ -0,0 +1,7 @@
+package com.surest_member_managemant.entity;
+
+public enum MemberEventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
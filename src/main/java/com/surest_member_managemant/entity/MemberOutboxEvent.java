@@ -0,0 +1,44 @@
+package com.surest_member_managemant.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// A member change waiting to be relayed; written in the same transaction as the change itself
+@Entity
+@Table(name = "member_outbox", schema = "surestdatabase",
+        indexes = @Index(name = "idx_member_outbox_created_at", columnList = "created_at, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberOutboxEvent {
+    // Pooled sequence so bulk writes can batch their outbox inserts (IDENTITY disables JDBC batching)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_outbox_id")
+    @SequenceGenerator(name = "member_outbox_id", sequenceName = "member_outbox_id_seq",
+            schema = "surestdatabase", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false, updatable = false)
+    private UUID memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, updatable = false, length = 16)
+    private MemberEventType eventType;
+
+    // MemberResponse as JSON; null for deletes
+    @Column(columnDefinition = "text", updatable = false)
+    private String payload;
+
+    // Database clock, so events from every node order by one clock. Read by the writer rather than generated
+    // at insert, so in-process listeners see the stored value and outbox inserts still batch.
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+}
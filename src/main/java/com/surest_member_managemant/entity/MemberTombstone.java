@@ -0,0 +1,25 @@
+package com.surest_member_managemant.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Marks a deleted member so delta sync can report the deletion; kept for app.members.delta.tombstone-retention
+@Entity
+@Table(name = "member_tombstone", schema = "surestdatabase",
+        indexes = @Index(name = "idx_member_tombstone_deleted_at_id", columnList = "deleted_at, member_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberTombstone {
+    @Id
+    @Column(name = "member_id", nullable = false, updatable = false)
+    private UUID memberId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
@@ -1,5 +1,6 @@
 package com.surest_member_managemant.entity;
 
+import com.surest_member_managemant.service.UserCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -10,6 +11,7 @@ import org.hibernate.annotations.UuidGenerator;
 import java.util.UUID;
 
 @Entity
+@EntityListeners(UserCacheInvalidationListener.class)
 @Table(name = "role",schema = "surestdatabase")
 @Getter
 @Setter
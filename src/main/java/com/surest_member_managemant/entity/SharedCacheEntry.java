@@ -0,0 +1,43 @@
+package com.surest_member_managemant.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+// One entry of the shared (L2) cache tier, read and written with plain JDBC by PostgresSharedCache.
+// V9 creates the table UNLOGGED: its content can always be rebuilt, so it skips the WAL.
+@Entity
+@Table(name = "shared_cache_entry", schema = "surestdatabase",
+        indexes = @Index(name = "idx_shared_cache_entry_expires_at", columnList = "expires_at"))
+@IdClass(SharedCacheEntry.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SharedCacheEntry {
+    @Id
+    @Column(name = "region", nullable = false)
+    private String region;
+
+    @Id
+    @Column(name = "cache_key", nullable = false, columnDefinition = "text")
+    private String cacheKey;
+
+    // JDK-serialized value
+    @Column(name = "value", nullable = false)
+    private byte[] value;
+
+    // Null means the region has no TTL
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String region;
+        private String cacheKey;
+    }
+}
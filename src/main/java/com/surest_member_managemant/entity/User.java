@@ -1,5 +1,6 @@
 package com.surest_member_managemant.entity;
 
+import com.surest_member_managemant.service.UserCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.UuidGenerator;
@@ -7,6 +8,7 @@ import org.hibernate.annotations.UuidGenerator;
 import java.util.UUID;
 
 @Entity
+@EntityListeners(UserCacheInvalidationListener.class)
 @Table(name = "app_user", schema = "surestdatabase")
 @Getter
 @Setter
@@ -3,6 +3,7 @@ package com.surest_member_managemant.exception;
 import com.surest_member_managemant.dto.ApiError;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -92,6 +93,58 @@ public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(body);
     }
 
+    // Handle stale writes (optimistic locking)
+    @ExceptionHandler({ConflictException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<ApiError> handleConflict(RuntimeException ex, HttpServletRequest request) {
+        ApiError body = buildApiError(
+                String.valueOf(HttpStatus.CONFLICT.value()),
+                HttpStatus.CONFLICT.getReasonPhrase(),
+                ex instanceof ConflictException && ex.getMessage() != null
+                        ? ex.getMessage()
+                        : "Resource was modified concurrently",
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
+    // Handle saturated resources; clients should back off and retry
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiError> handleServiceUnavailable(ServiceUnavailableException ex, HttpServletRequest request) {
+        ApiError body = buildApiError(
+                String.valueOf(HttpStatus.SERVICE_UNAVAILABLE.value()),
+                HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                ex.getMessage() != null ? ex.getMessage() : "Service temporarily unavailable",
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(body);
+    }
+
+    // Handle sync positions that can no longer be served; the client has to start over
+    @ExceptionHandler(GoneException.class)
+    public ResponseEntity<ApiError> handleGone(GoneException ex, HttpServletRequest request) {
+        ApiError body = buildApiError(
+                String.valueOf(HttpStatus.GONE.value()),
+                HttpStatus.GONE.getReasonPhrase(),
+                ex.getMessage() != null ? ex.getMessage() : "Resource is no longer available",
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.GONE).body(body);
+    }
+
+    // Handle conditional writes sent without the version they are conditional on
+    @ExceptionHandler(PreconditionRequiredException.class)
+    public ResponseEntity<ApiError> handlePreconditionRequired(PreconditionRequiredException ex, HttpServletRequest request) {
+        ApiError body = buildApiError(
+                String.valueOf(HttpStatus.PRECONDITION_REQUIRED.value()),
+                HttpStatus.PRECONDITION_REQUIRED.getReasonPhrase(),
+                ex.getMessage() != null ? ex.getMessage() : "Precondition required",
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).body(body);
+    }
+
     // Handle illegal arguments
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiError> handleIllegalArgument(IllegalArgumentException ex, HttpServletRequest request) {
@@ -0,0 +1,5 @@
+package com.surest_member_managemant.exception;
+
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) { super(message); }
+}
@@ -0,0 +1,5 @@
+package com.surest_member_managemant.exception;
+
+public class GoneException extends RuntimeException {
+    public GoneException(String message) { super(message); }
+}
@@ -0,0 +1,5 @@
+package com.surest_member_managemant.exception;
+
+public class PreconditionRequiredException extends RuntimeException {
+    public PreconditionRequiredException(String message) { super(message); }
+}
@@ -0,0 +1,5 @@
+package com.surest_member_managemant.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) { super(message); }
+}
@@ -0,0 +1,164 @@
+package com.surest_member_managemant.repository;
+
+import com.surest_member_managemant.dto.MemberResponse;
+import com.surest_member_managemant.entity.Member;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+// Set-based member writes that bypass the persistence context (one statement per batch)
+@Repository
+@RequiredArgsConstructor
+public class MemberBatchRepository {
+
+    private static final String INSERT_IGNORING_EXISTING =
+            "INSERT INTO surestdatabase.member (id, first_name, last_name, date_of_birth, email, version, created_at, updated_at) " +
+            "SELECT t.id, t.first_name, t.last_name, t.date_of_birth, t.email, 0, now(), now() " +
+            "FROM unnest(?::uuid[], ?::varchar[], ?::varchar[], ?::date[], ?::varchar[]) " +
+            "AS t(id, first_name, last_name, date_of_birth, email) " +
+            "ON CONFLICT (email) DO NOTHING " +
+            "RETURNING email";
+
+    // Per-row values joined in through unnest; every row is guarded by its version
+    private static final String UPDATE_FROM_VALUES =
+            "UPDATE surestdatabase.member m SET first_name = t.first_name, last_name = t.last_name, " +
+            "date_of_birth = t.date_of_birth, email = t.email, version = m.version + 1, updated_at = now() " +
+            "FROM unnest(?::uuid[], ?::varchar[], ?::varchar[], ?::date[], ?::varchar[], ?::bigint[]) " +
+            "AS t(id, first_name, last_name, date_of_birth, email, version) " +
+            "WHERE m.id = t.id AND m.version = t.version " +
+            "RETURNING m.id, m.first_name, m.last_name, m.date_of_birth, m.email, m.version";
+
+    // Tombstones for delta sync are written by the same statement
+    private static final String DELETE_BY_IDS =
+            "WITH deleted AS (DELETE FROM surestdatabase.member WHERE id = ANY(?::uuid[]) RETURNING id) " +
+            MemberTombstoneRepository.INSERT_FROM_DELETED + " RETURNING member_id";
+
+    private static final String EXISTING_IDS =
+            "SELECT id FROM surestdatabase.member WHERE id = ANY(?::uuid[])";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Insert all members in one statement; rows whose email already exists are skipped by the unique index.
+    // Returns the emails that were actually inserted.
+    public List<String> insertIgnoringExisting(List<Member> members) {
+        if (members.isEmpty()) {
+            return List.of();
+        }
+        int n = members.size();
+        Object[] ids = new Object[n];
+        Object[] firstNames = new Object[n];
+        Object[] lastNames = new Object[n];
+        Object[] datesOfBirth = new Object[n];
+        Object[] emails = new Object[n];
+        for (int i = 0; i < n; i++) {
+            Member m = members.get(i);
+            ids[i] = m.getId().toString();
+            firstNames[i] = m.getFirstName();
+            lastNames[i] = m.getLastName();
+            datesOfBirth[i] = m.getDateOfBirth().toString();
+            emails[i] = m.getEmail();
+        }
+
+        return jdbcTemplate.execute((ConnectionCallback<List<String>>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(INSERT_IGNORING_EXISTING)) {
+                ps.setArray(1, con.createArrayOf("varchar", ids));
+                ps.setArray(2, con.createArrayOf("varchar", firstNames));
+                ps.setArray(3, con.createArrayOf("varchar", lastNames));
+                ps.setArray(4, con.createArrayOf("varchar", datesOfBirth));
+                ps.setArray(5, con.createArrayOf("varchar", emails));
+                List<String> inserted = new ArrayList<>(n);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        inserted.add(rs.getString(1));
+                    }
+                }
+                return inserted;
+            }
+        });
+    }
+
+    // Update all members in one statement. Returns the rows that matched (existing and at the expected
+    // version) as written; ids must be distinct. A duplicate email fails the whole statement.
+    public List<MemberResponse> updateAll(List<Member> members) {
+        if (members.isEmpty()) {
+            return List.of();
+        }
+        int n = members.size();
+        Object[] ids = new Object[n];
+        Object[] firstNames = new Object[n];
+        Object[] lastNames = new Object[n];
+        Object[] datesOfBirth = new Object[n];
+        Object[] emails = new Object[n];
+        Object[] versions = new Object[n];
+        for (int i = 0; i < n; i++) {
+            Member m = members.get(i);
+            ids[i] = m.getId().toString();
+            firstNames[i] = m.getFirstName();
+            lastNames[i] = m.getLastName();
+            datesOfBirth[i] = m.getDateOfBirth().toString();
+            emails[i] = m.getEmail();
+            versions[i] = m.getVersion() == null ? null : m.getVersion().toString();
+        }
+        Object[][] arrays = {ids, firstNames, lastNames, datesOfBirth, emails, versions};
+        return jdbcTemplate.execute((ConnectionCallback<List<MemberResponse>>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(UPDATE_FROM_VALUES)) {
+                for (int i = 0; i < arrays.length; i++) {
+                    ps.setArray(i + 1, con.createArrayOf("varchar", arrays[i]));
+                }
+                List<MemberResponse> updated = new ArrayList<>(n);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        updated.add(MemberResponse.builder()
+                                .id(rs.getObject(1, UUID.class))
+                                .firstName(rs.getString(2))
+                                .lastName(rs.getString(3))
+                                .dateOfBirth(rs.getObject(4, LocalDate.class))
+                                .email(rs.getString(5))
+                                .version(rs.getLong(6))
+                                .build());
+                    }
+                }
+                return updated;
+            }
+        });
+    }
+
+    // Delete all listed members in one statement; returns the ids that existed
+    public List<UUID> deleteAll(Collection<UUID> ids) {
+        return ids.isEmpty() ? List.of() : queryIds(DELETE_BY_IDS, toStrings(ids));
+    }
+
+    public List<UUID> findExistingIds(Collection<UUID> ids) {
+        return ids.isEmpty() ? List.of() : queryIds(EXISTING_IDS, toStrings(ids));
+    }
+
+    private List<UUID> queryIds(String sql, Object[]... arrays) {
+        return jdbcTemplate.execute((ConnectionCallback<List<UUID>>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(sql)) {
+                for (int i = 0; i < arrays.length; i++) {
+                    ps.setArray(i + 1, con.createArrayOf("varchar", arrays[i]));
+                }
+                List<UUID> result = new ArrayList<>();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        result.add(rs.getObject(1, UUID.class));
+                    }
+                }
+                return result;
+            }
+        });
+    }
+
+    private static Object[] toStrings(Collection<UUID> ids) {
+        return ids.stream().map(UUID::toString).toArray();
+    }
+}
@@ -0,0 +1,84 @@
+package com.surest_member_managemant.repository;
+
+import com.surest_member_managemant.dto.MemberResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class MemberDeltaRepository {
+
+    // Changed members and tombstones merged into one (changed_at, id) order, so a single keyset covers both.
+    // Each branch is a bounded range scan on its own index: idx_member_updated_at_id and
+    // idx_member_tombstone_deleted_at_id. The upper bound is computed from the database clock in the same
+    // statement, the clock every write stamps with; rows at or after it may still have concurrent
+    // transactions committing behind them and are left for the next call. The clock row is always returned,
+    // so the bound is known even when nothing changed.
+    private static final String CHANGES_SINCE =
+            "WITH clock AS MATERIALIZED (SELECT LOCALTIMESTAMP AS db_now, " +
+            "LOCALTIMESTAMP - ? * interval '1 millisecond' AS upper_bound) " +
+            "SELECT clock.db_now, clock.upper_bound, c.* FROM clock LEFT JOIN LATERAL (" +
+            "SELECT * FROM (" +
+            "(SELECT m.id, m.first_name, m.last_name, m.date_of_birth, m.email, m.version, " +
+            "m.updated_at AS changed_at, false AS deleted FROM surestdatabase.member m " +
+            "WHERE (m.updated_at, m.id) > (?, ?) AND m.updated_at < clock.upper_bound " +
+            "ORDER BY m.updated_at, m.id LIMIT ?) " +
+            "UNION ALL " +
+            "(SELECT t.member_id, NULL, NULL, NULL, NULL, NULL, " +
+            "t.deleted_at, true FROM surestdatabase.member_tombstone t " +
+            "WHERE (t.deleted_at, t.member_id) > (?, ?) AND t.deleted_at < clock.upper_bound " +
+            "ORDER BY t.deleted_at, t.member_id LIMIT ?)" +
+            ") u ORDER BY changed_at, id LIMIT ?" +
+            ") c ON true ORDER BY c.changed_at, c.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Up to limit changes strictly after (since, afterId) and older than settleWindow by the database clock;
+    // member is null for deletions
+    public Window findChangesSince(LocalDateTime since, UUID afterId, Duration settleWindow, int limit) {
+        return jdbcTemplate.query(CHANGES_SINCE, rs -> {
+                    LocalDateTime now = null;
+                    LocalDateTime upperBound = null;
+                    List<Change> changes = new ArrayList<>();
+                    while (rs.next()) {
+                        now = rs.getObject("db_now", LocalDateTime.class);
+                        upperBound = rs.getObject("upper_bound", LocalDateTime.class);
+                        UUID id = rs.getObject("id", UUID.class);
+                        if (id == null) {
+                            continue;
+                        }
+                        LocalDateTime changedAt = rs.getObject("changed_at", LocalDateTime.class);
+                        if (rs.getBoolean("deleted")) {
+                            changes.add(new Change(id, null, changedAt));
+                        } else {
+                            changes.add(new Change(id, new MemberResponse(id,
+                                    rs.getString("first_name"),
+                                    rs.getString("last_name"),
+                                    rs.getObject("date_of_birth", LocalDate.class),
+                                    rs.getString("email"),
+                                    rs.getLong("version")), changedAt));
+                        }
+                    }
+                    return new Window(now, upperBound, changes);
+                },
+                settleWindow.toMillis(),
+                since, afterId, limit,
+                since, afterId, limit,
+                limit);
+    }
+
+    // now and upperBound are read from the database in the same statement as the changes
+    public record Window(LocalDateTime now, LocalDateTime upperBound, List<Change> changes) {
+    }
+
+    public record Change(UUID id, MemberResponse member, LocalDateTime changedAt) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.surest_member_managemant.repository;
+
+import com.surest_member_managemant.entity.MemberOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface MemberOutboxRepository extends JpaRepository<MemberOutboxEvent, Long> {
+
+    // Rows locked by another relay are skipped rather than waited on, so nodes drain disjoint batches
+    @Query(value = "SELECT * FROM surestdatabase.member_outbox WHERE published_at IS NULL " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<MemberOutboxEvent> lockUnpublished(@Param("limit") int limit);
+
+    @Modifying
+    @Query("update MemberOutboxEvent e set e.publishedAt = :publishedAt where e.id in :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    // The clock created_at is stamped with: the database's, shared by every node, read when the event is
+    // recorded rather than when its transaction started
+    @Query(value = "SELECT CAST(clock_timestamp() AS timestamp)", nativeQuery = true)
+    LocalDateTime databaseTime();
+
+    // Ids follow creation order closely enough for a lag metric, and the partial index serves this. The age
+    // is measured on the database clock that stamped the row.
+    @Query(value = "SELECT CAST(EXTRACT(EPOCH FROM CAST(clock_timestamp() AS timestamp) - created_at) * 1000 AS bigint) " +
+            "FROM surestdatabase.member_outbox WHERE published_at IS NULL ORDER BY id LIMIT 1", nativeQuery = true)
+    Optional<Long> findOldestUnpublishedAgeMillis();
+
+    // Change feed window; ids are allocated in blocks per node, so creation time (not id) orders events across nodes
+    @Query(value = "SELECT * FROM surestdatabase.member_outbox WHERE created_at >= :since " +
+            "ORDER BY created_at, id LIMIT :limit", nativeQuery = true)
+    List<MemberOutboxEvent> findCreatedSince(@Param("since") LocalDateTime since, @Param("limit") int limit);
+
+    @Modifying
+    @Query("delete from MemberOutboxEvent e where e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
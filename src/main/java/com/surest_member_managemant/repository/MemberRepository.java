@@ -1,24 +1,117 @@
 package com.surest_member_managemant.repository;
 
+import com.surest_member_managemant.dto.MemberResponse;
 import com.surest_member_managemant.entity.Member;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface MemberRepository extends JpaRepository<Member, UUID> {
 
+    String FIRST_NAME_CONTAINS =
+            "lower(m.firstName) like lower(concat('%', :#{escape(#firstName)}, '%')) escape :#{escapeCharacter()}";
+    String LAST_NAME_CONTAINS =
+            "lower(m.lastName) like lower(concat('%', :#{escape(#lastName)}, '%')) escape :#{escapeCharacter()}";
+
     Optional<Member> findByEmail(String email);
 
     boolean existsByEmail(String email);
 
-    Page<Member> findByFirstNameContainingIgnoreCase(String firstName, Pageable pageable);
+    // List reads project straight into the response DTO: no managed entities, no persistence-context
+    // entries and no copy through a builder
+    String MEMBER_RESPONSE = "select new com.surest_member_managemant.dto.MemberResponse(" +
+            "m.id, m.firstName, m.lastName, m.dateOfBirth, m.email, m.version) from Member m";
+
+    @Query(value = MEMBER_RESPONSE, countQuery = "select count(m) from Member m")
+    Page<MemberResponse> findPageBy(Pageable pageable);
+
+    // Name filters match on lower(...) so the pg_trgm GIN indexes from V4 serve '%term%' searches
+    @Query(value = MEMBER_RESPONSE + " where " + FIRST_NAME_CONTAINS,
+            countQuery = "select count(m) from Member m where " + FIRST_NAME_CONTAINS)
+    Page<MemberResponse> findByFirstNameContainingIgnoreCase(@Param("firstName") String firstName, Pageable pageable);
+
+    @Query(value = MEMBER_RESPONSE + " where " + LAST_NAME_CONTAINS,
+            countQuery = "select count(m) from Member m where " + LAST_NAME_CONTAINS)
+    Page<MemberResponse> findByLastNameContainingIgnoreCase(@Param("lastName") String lastName, Pageable pageable);
+
+    @Query(value = MEMBER_RESPONSE + " where " + FIRST_NAME_CONTAINS + " and " + LAST_NAME_CONTAINS,
+            countQuery = "select count(m) from Member m where " + FIRST_NAME_CONTAINS + " and " + LAST_NAME_CONTAINS)
+    Page<MemberResponse> findByFirstNameContainingIgnoreCaseAndLastNameContainingIgnoreCase(@Param("firstName") String firstName,
+                                                                                            @Param("lastName") String lastName,
+                                                                                            Pageable pageable);
+
+    // Slice variants of the list queries: one extra row is fetched to detect a next page, no COUNT(*) is issued
+    @Query(MEMBER_RESPONSE)
+    Slice<MemberResponse> findSliceBy(Pageable pageable);
+
+    @Query(MEMBER_RESPONSE + " where " + FIRST_NAME_CONTAINS)
+    Slice<MemberResponse> findSliceByFirstName(@Param("firstName") String firstName, Pageable pageable);
+
+    @Query(MEMBER_RESPONSE + " where " + LAST_NAME_CONTAINS)
+    Slice<MemberResponse> findSliceByLastName(@Param("lastName") String lastName, Pageable pageable);
+
+    @Query(MEMBER_RESPONSE + " where " + FIRST_NAME_CONTAINS + " and " + LAST_NAME_CONTAINS)
+    Slice<MemberResponse> findSliceByFirstNameAndLastName(@Param("firstName") String firstName,
+                                                          @Param("lastName") String lastName,
+                                                          Pageable pageable);
+
+    // Batch lookup; callers keep the id list below the driver's bind-parameter limit
+    @Query(MEMBER_RESPONSE + " where m.id in :ids")
+    List<MemberResponse> findResponsesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Single-statement update returning the new row, guarded by the version the client last read;
+    // an empty result means the member is missing or the version is stale.
+    @Query(value = "UPDATE surestdatabase.member SET first_name = :firstName, last_name = :lastName, " +
+            "date_of_birth = :dateOfBirth, email = :email, version = version + 1, updated_at = now() " +
+            "WHERE id = :id AND version = :version " +
+            "RETURNING *", nativeQuery = true)
+    Optional<Member> updateReturning(@Param("id") UUID id,
+                                     @Param("firstName") String firstName,
+                                     @Param("lastName") String lastName,
+                                     @Param("dateOfBirth") LocalDate dateOfBirth,
+                                     @Param("email") String email,
+                                     @Param("version") long version);
+
+    // One statement instead of existsById + deleteById (which loads the entity first); the same statement
+    // leaves a tombstone for delta sync. 0 means no such member.
+    @Modifying
+    @Query(value = "WITH deleted AS (DELETE FROM surestdatabase.member WHERE id = :id RETURNING id) " +
+            MemberTombstoneRepository.INSERT_FROM_DELETED, nativeQuery = true)
+    int deleteMemberById(@Param("id") UUID id);
 
-    Page<Member> findByLastNameContainingIgnoreCase(String lastName, Pageable pageable);
+    // Keyset pagination over (created_at DESC, id DESC); served by idx_member_created_at_id, no OFFSET or COUNT
+    @Query(value = "SELECT * FROM surestdatabase.member m " +
+            "ORDER BY m.created_at DESC, m.id DESC LIMIT :limit", nativeQuery = true)
+    List<Member> findKeysetFirstPage(@Param("limit") int limit);
 
-    Page<Member> findByFirstNameContainingIgnoreCaseAndLastNameContainingIgnoreCase(String firstName, String lastName, Pageable pageable);
+    @Query(value = "SELECT * FROM surestdatabase.member m " +
+            "WHERE (m.created_at, m.id) < (:createdAt, :id) " +
+            "ORDER BY m.created_at DESC, m.id DESC LIMIT :limit", nativeQuery = true)
+    List<Member> findKeysetPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") UUID id,
+                                     @Param("limit") int limit);
 
-    boolean existsByEmailAndIdNot(String email, UUID id);
+    // Forward-only server-side cursor over the whole table; must be consumed inside a transaction
+    @Query("select m from Member m")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<Member> streamAll();
 }
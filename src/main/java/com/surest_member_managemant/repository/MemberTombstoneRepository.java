@@ -0,0 +1,24 @@
+package com.surest_member_managemant.repository;
+
+import com.surest_member_managemant.entity.MemberTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.UUID;
+
+public interface MemberTombstoneRepository extends JpaRepository<MemberTombstone, UUID> {
+
+    // Appended to a "WITH deleted AS (DELETE ... RETURNING id)" so the member row and its tombstone change together
+    String INSERT_FROM_DELETED =
+            "INSERT INTO surestdatabase.member_tombstone (member_id, deleted_at) " +
+            "SELECT id, now() FROM deleted " +
+            "ON CONFLICT (member_id) DO UPDATE SET deleted_at = EXCLUDED.deleted_at";
+
+    // Cut-off taken from the database clock, like deleted_at itself
+    @Modifying
+    @Query(value = "DELETE FROM surestdatabase.member_tombstone " +
+            "WHERE deleted_at < LOCALTIMESTAMP - :retentionMillis * interval '1 millisecond'", nativeQuery = true)
+    int deleteOlderThan(@Param("retentionMillis") long retentionMillis);
+}
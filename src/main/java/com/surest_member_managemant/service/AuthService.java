@@ -5,8 +5,10 @@ import com.surest_member_managemant.config.JwtUtil;
 import com.surest_member_managemant.dto.AuthRequest;
 import com.surest_member_managemant.dto.AuthResponse;
 import com.surest_member_managemant.exception.NotFoundException;
+import com.surest_member_managemant.exception.ServiceUnavailableException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.*;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
@@ -16,15 +18,16 @@ import org.springframework.stereotype.Service;
 public class AuthService {
 
     private final AuthenticationManager authenticationManager;
-    private final CustomUserDetailsService userDetailsService;
     private final JwtUtil jwtUtil;
 
     public AuthResponse login(AuthRequest request) {
         try {
-            authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword()));
-        var userDetails = userDetailsService.loadUserByUsername(request.getUsername());
-        var token = jwtUtil.generateToken(userDetails.getUsername(), userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
-        return new AuthResponse(token);
+            // The authenticated principal already carries username and authorities; no second lookup
+            Authentication authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword()));
+            var token = jwtUtil.generateToken(authentication.getName(),
+                    authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+            return new AuthResponse(token);
 
         } catch (BadCredentialsException ex) {
             throw new UnauthorizedException("Invalid username or password", ex);
@@ -36,6 +39,10 @@ public class AuthService {
             // Covers UsernameNotFoundException internally thrown by UserDetailsService
             throw new NotFoundException("User not found");
 
+        } catch (ServiceUnavailableException ex) {
+            // Password encoder pool is saturated; surface as 503 so clients back off
+            throw ex;
+
         } catch (Exception ex) {
             // Generic fallback
             throw new UnauthorizedException("Authentication failed", ex);
@@ -4,12 +4,15 @@ import com.surest_member_managemant.entity.User;
 import com.surest_member_managemant.exception.NotFoundException;
 import com.surest_member_managemant.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
 
     @Override
@@ -24,4 +27,17 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .build();
     }
 
+    // Called after a successful login whose stored hash needs a different cost or format
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User u = userRepository.findByUsername(user.getUsername())
+                .orElseThrow(() -> new NotFoundException("User not found"));
+        u.setPasswordHash(newPassword);
+        userRepository.save(u);
+        log.info("Rehashed password for user {}", u.getUsername());
+        return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
 }
@@ -0,0 +1,47 @@
+package com.surest_member_managemant.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.surest_member_managemant.dto.MemberChangeEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Appends events as NDJSON to a local file; for tests and local runs
+@Component
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "file")
+public class FileMemberEventSink implements MemberEventSink {
+
+    private final Path path;
+    private final ObjectWriter writer;
+    // Not synchronized: blocking file I/O inside a monitor would pin a virtual thread's carrier
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public FileMemberEventSink(@Value("${app.outbox.file.path:member-events.ndjson}") Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.writer = objectMapper.writerFor(MemberChangeEvent.class);
+    }
+
+    @Override
+    public void publish(List<MemberChangeEvent> events) throws IOException {
+        lock.lock();
+        try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (MemberChangeEvent event : events) {
+                out.write(writer.writeValueAsString(event));
+                out.write('\n');
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.surest_member_managemant.service;
+
+import com.surest_member_managemant.dto.MemberChangeEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Keeps relayed events in memory so tests can assert on them
+@Component
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "memory")
+public class InMemoryMemberEventSink implements MemberEventSink {
+
+    private final List<MemberChangeEvent> events = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<MemberChangeEvent> batch) {
+        events.addAll(batch);
+    }
+
+    public List<MemberChangeEvent> getEvents() {
+        return List.copyOf(events);
+    }
+
+    public void clear() {
+        events.clear();
+    }
+}
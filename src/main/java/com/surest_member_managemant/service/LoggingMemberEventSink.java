@@ -0,0 +1,22 @@
+package com.surest_member_managemant.service;
+
+import com.surest_member_managemant.dto.MemberChangeEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Default sink until a downstream transport is configured
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingMemberEventSink implements MemberEventSink {
+
+    @Override
+    public void publish(List<MemberChangeEvent> events) {
+        for (MemberChangeEvent event : events) {
+            log.info("Member event #{}: {} {}", event.getSequence(), event.getType(), event.getMemberId());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.surest_member_managemant.service;
+
+import com.surest_member_managemant.config.TwoTierCache;
+import com.surest_member_managemant.dto.MemberBulkResponse;
+import com.surest_member_managemant.dto.MemberBulkUpdateItem;
+import com.surest_member_managemant.dto.MemberResponse;
+import com.surest_member_managemant.entity.Member;
+import com.surest_member_managemant.entity.MemberEventType;
+import com.surest_member_managemant.repository.MemberBatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+// Set-based bulk writes. Each chunk is one statement in its own transaction, so a large request never
+// holds locks on every row at once and a failing chunk does not undo the ones before it.
+@Slf4j
+@Service
+public class MemberBulkService {
+
+    private final MemberBatchRepository memberBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final MemberOutboxWriter outboxWriter;
+    private final int maxIds;
+    private final int chunkSize;
+
+    public MemberBulkService(MemberBatchRepository memberBatchRepository,
+                             PlatformTransactionManager transactionManager,
+                             CacheManager cacheManager,
+                             MemberOutboxWriter outboxWriter,
+                             @Value("${app.members.bulk.max-ids:10000}") int maxIds,
+                             @Value("${app.members.bulk.chunk-size:500}") int chunkSize) {
+        this.memberBatchRepository = memberBatchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheManager = cacheManager;
+        this.outboxWriter = outboxWriter;
+        this.maxIds = maxIds;
+        this.chunkSize = chunkSize;
+    }
+
+    // Replace the listed members' fields. Every row must carry the version it was read at, as a PUT must;
+    // rows whose version is stale are reported as conflicted. A duplicate email rolls back its chunk,
+    // whose rows are reported as failed.
+    @CacheEvict(value = "memberPages", allEntries = true)
+    public MemberBulkResponse updateMembers(List<MemberBulkUpdateItem> items) {
+        checkSize(items.size());
+        Set<UUID> distinct = new HashSet<>();
+        for (MemberBulkUpdateItem item : items) {
+            if (!distinct.add(item.getId())) {
+                throw new IllegalArgumentException("Member " + item.getId() + " is listed more than once");
+            }
+            if (item.getVersion() == null) {
+                throw new IllegalArgumentException("Member " + item.getId() + " has no version");
+            }
+        }
+        log.info("Bulk updating {} members", items.size());
+
+        MemberBulkResponse response = emptyResponse();
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            List<Member> rows = items.subList(from, Math.min(from + chunkSize, items.size())).stream()
+                    .map(item -> Member.builder()
+                            .id(item.getId())
+                            .firstName(item.getFirstName())
+                            .lastName(item.getLastName())
+                            .dateOfBirth(item.getDateOfBirth())
+                            .email(item.getEmail())
+                            .version(item.getVersion())
+                            .build())
+                    .toList();
+            List<UUID> ids = rows.stream().map(Member::getId).toList();
+
+            List<UUID> updated;
+            Set<UUID> existing;
+            try {
+                ChunkResult result = transactionTemplate.execute(status -> {
+                    List<MemberResponse> written = memberBatchRepository.updateAll(rows);
+                    outboxWriter.recordMembers(MemberEventType.UPDATED, written);
+                    List<UUID> matched = written.stream().map(MemberResponse::getId).toList();
+                    // Failure path only: tell missing members apart from stale versions
+                    List<UUID> unmatched = without(ids, matched);
+                    return new ChunkResult(matched, new HashSet<>(memberBatchRepository.findExistingIds(unmatched)));
+                });
+                updated = result.affected();
+                existing = result.existing();
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Bulk update chunk of {} rows rolled back: {}", ids.size(), e.getMostSpecificCause().getMessage());
+                response.getFailed().addAll(ids);
+                continue;
+            }
+
+            response.getAffected().addAll(updated);
+            for (UUID id : without(ids, updated)) {
+                (existing.contains(id) ? response.getConflicted() : response.getMissing()).add(id);
+            }
+            evictMembers(updated);
+        }
+        log.info("Bulk update finished: affected={}, missing={}, conflicted={}, failed={}",
+                response.getAffected().size(), response.getMissing().size(),
+                response.getConflicted().size(), response.getFailed().size());
+        return response;
+    }
+
+    // Delete the listed members; ids that do not exist are reported as missing
+    @CacheEvict(value = "memberPages", allEntries = true)
+    public MemberBulkResponse deleteMembers(List<UUID> ids) {
+        checkSize(ids.size());
+        List<UUID> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        log.warn("Bulk deleting {} members", distinct.size());
+
+        MemberBulkResponse response = emptyResponse();
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            List<UUID> chunk = distinct.subList(from, Math.min(from + chunkSize, distinct.size()));
+            List<UUID> deleted = transactionTemplate.execute(status -> {
+                List<UUID> removed = memberBatchRepository.deleteAll(chunk);
+                outboxWriter.recordAll(MemberEventType.DELETED, removed);
+                return removed;
+            });
+            response.getAffected().addAll(deleted);
+            response.getMissing().addAll(without(chunk, deleted));
+            evictMembers(deleted);
+        }
+        log.info("Bulk delete finished: deleted={}, missing={}", response.getAffected().size(), response.getMissing().size());
+        return response;
+    }
+
+    private void checkSize(int size) {
+        if (size == 0) {
+            throw new IllegalArgumentException("At least one member is required");
+        }
+        if (size > maxIds) {
+            throw new IllegalArgumentException("At most " + maxIds + " members can be changed at once");
+        }
+    }
+
+    // Runs after the chunk committed, so peers never reload the old row
+    private void evictMembers(Collection<UUID> ids) {
+        Cache cache = cacheManager.getCache("members");
+        if (cache instanceof TwoTierCache twoTier) {
+            twoTier.evictAll(ids);
+        } else if (cache != null) {
+            ids.forEach(cache::evict);
+        }
+    }
+
+    private static List<UUID> without(List<UUID> ids, Collection<UUID> remove) {
+        Set<UUID> removed = new HashSet<>(remove);
+        return ids.stream().filter(id -> !removed.contains(id)).toList();
+    }
+
+    private static MemberBulkResponse emptyResponse() {
+        return new MemberBulkResponse(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    }
+
+    private record ChunkResult(List<UUID> affected, Set<UUID> existing) {
+    }
+}
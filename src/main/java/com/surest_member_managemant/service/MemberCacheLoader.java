@@ -0,0 +1,34 @@
+package com.surest_member_managemant.service;
+
+import com.surest_member_managemant.config.PrimaryStickiness;
+import com.surest_member_managemant.config.RegionCacheLoader;
+import com.surest_member_managemant.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+// Loads "members" entries by ID so hot members are refreshed in the background before they expire
+@Component
+@RequiredArgsConstructor
+public class MemberCacheLoader implements RegionCacheLoader {
+
+    private final MemberRepository memberRepository;
+
+    @Override
+    public String region() {
+        return "members";
+    }
+
+    // A null result drops the entry, so a member deleted elsewhere disappears on its next refresh.
+    // Reads the primary: refreshing from a lagging replica would put an older version back.
+    @Override
+    public Object load(Object key) {
+        if (!(key instanceof UUID id)) {
+            return null;
+        }
+        return PrimaryStickiness.onPrimary(() -> memberRepository.findById(id))
+                .map(MemberService::mapToResponse)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,340 @@
+package com.surest_member_managemant.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.surest_member_managemant.config.PrimaryStickiness;
+import com.surest_member_managemant.dto.MemberChangeEvent;
+import com.surest_member_managemant.entity.MemberOutboxEvent;
+import com.surest_member_managemant.exception.ServiceUnavailableException;
+import com.surest_member_managemant.repository.MemberOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Fans committed member changes out to Server-Sent Events subscribers. Changes made on this node arrive
+// right after commit; changes made on peers come from one outbox poll per node, so database load does not
+// grow with the number of subscribers. Each subscriber gets a bounded queue drained by a small shared
+// sender pool: an idle connection holds no thread, and one whose queue overflows is disconnected so the
+// client reconnects with Last-Event-ID instead of slowing everyone else down.
+@Slf4j
+@Service
+public class MemberChangeFeed {
+
+    static final String RESET_EVENT = "reset";
+    private static final FeedItem HEARTBEAT = new FeedItem(null, null, null);
+    private static final FeedItem RESET = new FeedItem(null, RESET_EVENT, "{}");
+
+    private final MemberOutboxRepository outboxRepository;
+    private final MemberOutboxWriter outboxWriter;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Executor senders;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final int replayLimit;
+    private final Duration settleWindow;
+    private final Duration timeout;
+    private final Counter dropped;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Events already fanned out that a later poll window can still return, by creation time
+    private final Map<Long, LocalDateTime> delivered = new ConcurrentHashMap<>();
+    // Database time of the last poll; null until subscribers appear
+    private volatile LocalDateTime watermark;
+
+    @Autowired
+    public MemberChangeFeed(MemberOutboxRepository outboxRepository,
+                            MemberOutboxWriter outboxWriter,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.members.feed.sender-threads:4}") int senderThreads,
+                            @Value("${app.members.feed.buffer-size:256}") int bufferSize,
+                            @Value("${app.members.feed.max-subscribers:5000}") int maxSubscribers,
+                            @Value("${app.members.feed.replay-limit:10000}") int replayLimit,
+                            @Value("${app.members.feed.settle-window:5s}") Duration settleWindow,
+                            @Value("${app.members.feed.timeout:30m}") Duration timeout) {
+        this(outboxRepository, outboxWriter, objectMapper, transactionManager, meterRegistry,
+                senderPool(senderThreads, meterRegistry), bufferSize, maxSubscribers, replayLimit, settleWindow, timeout);
+    }
+
+    MemberChangeFeed(MemberOutboxRepository outboxRepository,
+                     MemberOutboxWriter outboxWriter,
+                     ObjectMapper objectMapper,
+                     PlatformTransactionManager transactionManager,
+                     MeterRegistry meterRegistry,
+                     Executor senders,
+                     int bufferSize,
+                     int maxSubscribers,
+                     int replayLimit,
+                     Duration settleWindow,
+                     Duration timeout) {
+        this.outboxRepository = outboxRepository;
+        this.outboxWriter = outboxWriter;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.senders = senders;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.replayLimit = replayLimit;
+        this.settleWindow = settleWindow;
+        this.timeout = timeout;
+        this.dropped = Counter.builder("member.feed.dropped")
+                .description("Change feed subscribers disconnected because their buffer overflowed")
+                .register(meterRegistry);
+        Gauge.builder("member.feed.subscribers", subscribers, Set::size)
+                .description("Open member change feed connections on this node")
+                .register(meterRegistry);
+    }
+
+    private static ExecutorService senderPool(int threads, MeterRegistry meterRegistry) {
+        // At most one queued drain per subscriber, so the queue is bounded by max-subscribers
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("member-feed-"));
+        new ExecutorServiceMetrics(executor, "memberFeed", Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+
+    // Open a feed. With a Last-Event-ID the events after it are replayed first; if that point is no longer
+    // in the outbox (or too far back) the client gets a "reset" event and should reload instead.
+    public SseEmitter subscribe(String lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ServiceUnavailableException("Too many change feed subscribers, please retry shortly");
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        // A timed-out feed just ends; EventSource reconnects with its Last-Event-ID
+        emitter.onTimeout(emitter::complete);
+
+        // Registered before the replay query, so a change committed meanwhile is queued rather than lost.
+        // It may then arrive twice; consumers already de-duplicate on sequence.
+        subscribers.add(subscriber);
+        subscriber.send(SseEmitter.event().comment("member changes").reconnectTime(3000));
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            try {
+                replay(subscriber, lastEventId);
+            } catch (RuntimeException e) {
+                subscribers.remove(subscriber);
+                throw e;
+            }
+        }
+        subscriber.ready = true;
+        schedule(subscriber);
+        return emitter;
+    }
+
+    // Sent on the request thread before the response starts; the emitter buffers them and flushes them first.
+    // Read from the primary: the client just saw lastEventId, and a replica that has not replayed it yet
+    // would turn a normal reconnect into a reset.
+    private void replay(Subscriber subscriber, String lastEventId) {
+        Long lastId = parseId(lastEventId);
+        List<MemberOutboxEvent> rows = lastId == null ? null : PrimaryStickiness.onPrimary(() -> readOnlyTransaction.execute(status ->
+                outboxRepository.findById(lastId)
+                        .map(from -> outboxRepository.findCreatedSince(from.getCreatedAt().minus(settleWindow), replayLimit + 1))
+                        .orElse(null)));
+        if (rows == null || rows.size() > replayLimit) {
+            log.debug("Change feed cannot resume from {}, sending reset", lastEventId);
+            subscriber.send(RESET.toSse());
+            return;
+        }
+        for (MemberOutboxEvent row : rows) {
+            if (!row.getId().equals(lastId)) {
+                subscriber.send(render(outboxWriter.toEvent(row)).toSse());
+            }
+        }
+    }
+
+    // Local writes: queued for every subscriber as soon as the transaction commits
+    @TransactionalEventListener
+    public void onCommitted(MemberChangesRecorded recorded) {
+        dispatch(recorded.events());
+    }
+
+    // Peers' writes. The window reaches settle-window back, because a row's creation time is taken
+    // before its transaction commits; rows seen in an earlier window are skipped. Also read from the
+    // primary, since replica lag is not covered by the settle window and a late row would be missed.
+    // The window is measured on the database clock, which is the one created_at is stamped with.
+    @Scheduled(fixedDelayString = "${app.members.feed.poll-interval:1s}")
+    public void pollOutbox() {
+        if (subscribers.isEmpty()) {
+            watermark = null;
+            delivered.clear();
+            return;
+        }
+        PollWindow window = PrimaryStickiness.onPrimary(() -> readOnlyTransaction.execute(status -> {
+            LocalDateTime at = outboxRepository.databaseTime();
+            LocalDateTime from = (watermark != null ? watermark : at).minus(settleWindow);
+            return new PollWindow(at, from, outboxRepository.findCreatedSince(from, replayLimit));
+        }));
+        LocalDateTime now = window.now();
+        LocalDateTime since = window.since();
+        List<MemberOutboxEvent> rows = window.rows();
+        if (rows.size() >= replayLimit) {
+            // Too many changes to stream; everyone reloads instead
+            log.warn("Change feed window since {} exceeded {} events, resetting subscribers", since, replayLimit);
+            subscribers.forEach(subscriber -> offer(subscriber, List.of(RESET)));
+        } else {
+            dispatch(rows.stream().map(outboxWriter::toEvent).toList());
+        }
+        watermark = now;
+        LocalDateTime horizon = now.minus(settleWindow);
+        delivered.values().removeIf(createdAt -> createdAt.isBefore(horizon));
+    }
+
+    // Keeps idle connections open through proxies and finds dead ones
+    @Scheduled(fixedDelayString = "${app.members.feed.heartbeat-interval:15s}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> offer(subscriber, List.of(HEARTBEAT)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        if (senders instanceof ExecutorService executor) {
+            executor.shutdown();
+        }
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    // Each event is serialized once, not once per subscriber
+    void dispatch(List<MemberChangeEvent> events) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        List<FeedItem> items = new ArrayList<>(events.size());
+        for (MemberChangeEvent event : events) {
+            if (delivered.putIfAbsent(event.getSequence(), event.getOccurredAt()) == null) {
+                items.add(render(event));
+            }
+        }
+        if (!items.isEmpty()) {
+            subscribers.forEach(subscriber -> offer(subscriber, items));
+        }
+    }
+
+    private void offer(Subscriber subscriber, List<FeedItem> items) {
+        for (FeedItem item : items) {
+            if (!subscriber.queue.offer(item)) {
+                drop(subscriber);
+                return;
+            }
+        }
+        schedule(subscriber);
+    }
+
+    private void drop(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            dropped.increment();
+            log.debug("Change feed subscriber fell {} events behind, disconnecting", bufferSize);
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.ready && !subscriber.queue.isEmpty() && subscriber.scheduled.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.scheduled.set(false);
+                drop(subscriber);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        FeedItem item;
+        while ((item = subscriber.queue.poll()) != null) {
+            if (!subscriber.send(item.toSse())) {
+                subscribers.remove(subscriber);
+                return;
+            }
+        }
+        subscriber.scheduled.set(false);
+        // An offer may have landed after the last poll but before the flag was cleared
+        schedule(subscriber);
+    }
+
+    private FeedItem render(MemberChangeEvent event) {
+        try {
+            return new FeedItem(String.valueOf(event.getSequence()),
+                    event.getType().name().toLowerCase(Locale.ROOT),
+                    objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize member event " + event.getSequence(), e);
+        }
+    }
+
+    private static Long parseId(String lastEventId) {
+        try {
+            return Long.valueOf(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // One outbox poll: the database time it ran at, the start of the window it read and the rows found
+    private record PollWindow(LocalDateTime now, LocalDateTime since, List<MemberOutboxEvent> rows) {
+    }
+
+    // A pre-rendered SSE frame; no name and no data means a heartbeat comment
+    private record FeedItem(String id, String name, String data) {
+
+        SseEmitter.SseEventBuilder toSse() {
+            if (data == null) {
+                return SseEmitter.event().comment("");
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(data);
+            return id == null ? event : event.id(id);
+        }
+    }
+
+    static final class Subscriber {
+        final SseEmitter emitter;
+        final BlockingQueue<FeedItem> queue;
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        volatile boolean ready;
+
+        Subscriber(SseEmitter emitter, BlockingQueue<FeedItem> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        // The container reports the broken connection itself, which ends the emitter
+        boolean send(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Change feed subscriber disconnected: {}", e.getMessage());
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.surest_member_managemant.service;
+
+import com.surest_member_managemant.dto.MemberChangeEvent;
+
+import java.util.List;
+
+// Published by MemberOutboxWriter inside the writing transaction
+public record MemberChangesRecorded(List<MemberChangeEvent> events) {
+}
@@ -0,0 +1,57 @@
+package com.surest_member_managemant.service;
+
+import com.surest_member_managemant.constants.ApiConstants;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// Streaming wire formats accepted by member import and produced by member export
+public enum MemberDataFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(MediaType.parseMediaType(ApiConstants.TEXT_CSV_VALUE), "csv"),
+    CBOR_SEQ(MediaType.parseMediaType(ApiConstants.CBOR_SEQ_VALUE), "cbor");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    MemberDataFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    // Pick the first supported format from an Accept header, honouring quality values
+    public static MemberDataFormat negotiate(List<MediaType> accepted, MemberDataFormat fallback) {
+        List<MediaType> sorted = new ArrayList<>(accepted);
+        sorted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType candidate : sorted) {
+            if (candidate.isWildcardType() || candidate.isWildcardSubtype()) {
+                continue;
+            }
+            for (MemberDataFormat format : values()) {
+                if (format.mediaType.isCompatibleWith(candidate)) {
+                    return format;
+                }
+            }
+        }
+        return fallback;
+    }
+
+    public static MemberDataFormat fromMediaType(MediaType mediaType) {
+        for (MemberDataFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(mediaType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported member data format: " + mediaType);
+    }
+}
@@ -0,0 +1,108 @@
+package com.surest_member_managemant.service;
+
+import com.surest_member_managemant.dto.MemberDeltaResponse;
+import com.surest_member_managemant.dto.MemberResponse;
+import com.surest_member_managemant.exception.GoneException;
+import com.surest_member_managemant.repository.MemberDeltaRepository;
+import com.surest_member_managemant.repository.MemberTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Incremental sync: members changed or deleted after a (timestamp, id) watermark, in keyset pages.
+// Changes younger than settle-window are held back: updated_at is taken before commit, so a slower
+// transaction could still commit a row behind a watermark that had already moved past it. Every timestamp
+// involved (updated_at, deleted_at, the upper bound, retention) comes from the database clock.
+@Slf4j
+@Service
+public class MemberDeltaService {
+
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+    private static final MemberCursor START = new MemberCursor(LocalDateTime.of(1970, 1, 1, 0, 0), MIN_ID);
+
+    private final MemberDeltaRepository deltaRepository;
+    private final MemberTombstoneRepository tombstoneRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxSize;
+    private final Duration settleWindow;
+    private final Duration tombstoneRetention;
+
+    public MemberDeltaService(MemberDeltaRepository deltaRepository,
+                              MemberTombstoneRepository tombstoneRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.members.delta.max-size:5000}") int maxSize,
+                              @Value("${app.members.delta.settle-window:5s}") Duration settleWindow,
+                              @Value("${app.members.delta.tombstone-retention:30d}") Duration tombstoneRetention) {
+        this.deltaRepository = deltaRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxSize = maxSize;
+        this.settleWindow = settleWindow;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    // Without a cursor the whole table is returned page by page, which is also how a client recovers from 410:
+    // it re-reads everything and drops local members it did not see.
+    @Transactional(readOnly = true)
+    public MemberDeltaResponse getChangesSince(String since, int size) {
+        if (size < 1 || size > maxSize) {
+            throw new IllegalArgumentException("size must be between 1 and " + maxSize);
+        }
+        MemberCursor cursor = since == null || since.isBlank() ? START : MemberCursor.decode(since);
+
+        MemberDeltaRepository.Window window =
+                deltaRepository.findChangesSince(cursor.getTimestamp(), cursor.getId(), settleWindow, size + 1);
+        if (cursor != START && cursor.getTimestamp().isBefore(window.now().minus(tombstoneRetention))) {
+            throw new GoneException("Cursor is older than the deletion history; sync again without since");
+        }
+        LocalDateTime upperBound = window.upperBound();
+        List<MemberDeltaRepository.Change> rows = window.changes();
+        boolean hasMore = rows.size() > size;
+        List<MemberDeltaRepository.Change> page = hasMore ? rows.subList(0, size) : rows;
+
+        List<MemberResponse> changed = new ArrayList<>();
+        List<UUID> deleted = new ArrayList<>();
+        for (MemberDeltaRepository.Change change : page) {
+            if (change.member() == null) {
+                deleted.add(change.id());
+            } else {
+                changed.add(change.member());
+            }
+        }
+
+        // Once caught up, everything before the upper bound has been seen; moving the cursor there keeps
+        // idle clients from aging past the tombstone retention
+        MemberCursor next;
+        if (hasMore) {
+            MemberDeltaRepository.Change last = page.get(page.size() - 1);
+            next = new MemberCursor(last.changedAt(), last.id());
+        } else {
+            next = upperBound.isAfter(cursor.getTimestamp()) ? new MemberCursor(upperBound, MIN_ID) : cursor;
+        }
+        log.debug("Member delta since {}: changed={}, deleted={}, hasMore={}", cursor, changed.size(), deleted.size(), hasMore);
+
+        return MemberDeltaResponse.builder()
+                .changed(changed)
+                .deleted(deleted)
+                .nextCursor(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${app.members.delta.cleanup-interval:1h}")
+    public void deleteExpiredTombstones() {
+        Integer deleted = transactionTemplate.execute(status ->
+                tombstoneRepository.deleteOlderThan(tombstoneRetention.toMillis()));
+        log.debug("Deleted {} expired member tombstones", deleted);
+    }
+}
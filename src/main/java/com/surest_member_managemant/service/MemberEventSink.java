@@ -0,0 +1,15 @@
+package com.surest_member_managemant.service;
+
+import com.surest_member_managemant.dto.MemberChangeEvent;
+
+import java.util.List;
+
+// Destination of relayed member events, chosen with app.outbox.sink (log, file or memory).
+// A batch that fails is retried as a whole, so delivery is at-least-once. Order is best-effort and per
+// node: a batch is handed over in sequence order, but nodes relay disjoint batches concurrently, ids come
+// from pooled sequence blocks and a retried batch can land after a newer one. Consumers should not rely
+// on arrival order; member.version tells which state of a member is newer.
+public interface MemberEventSink {
+
+    void publish(List<MemberChangeEvent> events) throws Exception;
+}
@@ -0,0 +1,120 @@
+package com.surest_member_managemant.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.surest_member_managemant.dto.MemberResponse;
+import com.surest_member_managemant.entity.Member;
+import com.surest_member_managemant.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class MemberExportService {
+
+    private static final List<String> CSV_HEADER = List.of("id", "firstName", "lastName", "dateOfBirth", "email");
+
+    private final MemberRepository memberRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+    private final ObjectWriter cborRowWriter;
+
+    public MemberExportService(MemberRepository memberRepository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.memberRepository = memberRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        // Rows are flushed by the buffered servlet stream, not after every value
+        this.rowWriter = objectMapper.writerFor(MemberResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.cborRowWriter = objectMapper.copyWith(new CBORFactory()).writerFor(MemberResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    // Stream every member from a server-side cursor. Each entity is detached once written, so neither
+    // the persistence context nor the heap grows with the row count. Returns the number of rows written.
+    @Transactional(readOnly = true)
+    public long exportMembers(OutputStream out, MemberDataFormat format) throws IOException {
+        log.info("Starting member export ({})", format);
+        long count;
+        try (Stream<Member> members = memberRepository.streamAll()) {
+            Iterator<Member> rows = members.iterator();
+            count = switch (format) {
+                case NDJSON -> writeNdjson(rows, out);
+                case CSV -> writeCsv(rows, out);
+                case CBOR_SEQ -> writeCborSequence(rows, out);
+            };
+        }
+        log.info("Member export finished: {} rows", count);
+        return count;
+    }
+
+    private long writeNdjson(Iterator<Member> rows, OutputStream out) throws IOException {
+        long count = 0;
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(new SerializedString("\n"));
+        while (rows.hasNext()) {
+            Member member = rows.next();
+            rowWriter.writeValue(generator, MemberService.mapToResponse(member));
+            entityManager.detach(member);
+            count++;
+        }
+        if (count > 0) {
+            generator.writeRaw('\n');
+        }
+        generator.close();
+        return count;
+    }
+
+    // CBOR items are self-delimiting, so a sequence is just the items back to back
+    private long writeCborSequence(Iterator<Member> rows, OutputStream out) throws IOException {
+        long count = 0;
+        JsonGenerator generator = cborRowWriter.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        while (rows.hasNext()) {
+            Member member = rows.next();
+            cborRowWriter.writeValue(generator, MemberService.mapToResponse(member));
+            entityManager.detach(member);
+            count++;
+        }
+        generator.close();
+        return count;
+    }
+
+    private long writeCsv(Iterator<Member> rows, OutputStream out) throws IOException {
+        long count = 0;
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(MemberCsv.formatLine(CSV_HEADER));
+        writer.write('\n');
+        while (rows.hasNext()) {
+            Member member = rows.next();
+            writer.write(MemberCsv.formatLine(List.of(
+                    member.getId().toString(),
+                    member.getFirstName(),
+                    member.getLastName(),
+                    member.getDateOfBirth().toString(),
+                    member.getEmail())));
+            writer.write('\n');
+            entityManager.detach(member);
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+}
@@ -0,0 +1,257 @@
+package com.surest_member_managemant.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.surest_member_managemant.dto.MemberImportError;
+import com.surest_member_managemant.dto.MemberImportResponse;
+import com.surest_member_managemant.dto.MemberRequest;
+import com.surest_member_managemant.entity.Member;
+import com.surest_member_managemant.entity.MemberEventType;
+import com.surest_member_managemant.repository.MemberBatchRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class MemberImportService {
+
+    private final MemberBatchRepository memberBatchRepository;
+    private final MemberOutboxWriter outboxWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectReader requestReader;
+    private final ObjectReader cborRequestReader;
+    private final int batchSize;
+
+    public MemberImportService(MemberBatchRepository memberBatchRepository,
+                               MemberOutboxWriter outboxWriter,
+                               PlatformTransactionManager transactionManager,
+                               Validator validator,
+                               ObjectMapper objectMapper,
+                               @Value("${app.members.import.batch-size:1000}") int batchSize) {
+        this.memberBatchRepository = memberBatchRepository;
+        this.outboxWriter = outboxWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.requestReader = objectMapper.readerFor(MemberRequest.class);
+        this.cborRequestReader = objectMapper.copyWith(new CBORFactory()).readerFor(MemberRequest.class);
+        this.batchSize = batchSize;
+    }
+
+    // Stream the body row by row, validating each row and inserting in set-based batches.
+    // Rows are never buffered beyond the current batch, so memory stays flat for any upload size.
+    @CacheEvict(value = "memberPages", allEntries = true)
+    public MemberImportResponse importMembers(InputStream body, MemberDataFormat format) throws IOException {
+        log.info("Starting member import ({})", format);
+
+        ImportRun run = new ImportRun();
+        if (format == MemberDataFormat.CBOR_SEQ) {
+            readCborSequence(body, run);
+        } else {
+            readLines(body, format, run);
+        }
+        flush(run);
+
+        log.info("Member import finished: received={}, imported={}, failed={}", run.received, run.imported, run.errors.size());
+        return MemberImportResponse.builder()
+                .received(run.received)
+                .imported(run.imported)
+                .failed(run.errors.size())
+                .errors(run.errors)
+                .build();
+    }
+
+    private void readLines(InputStream body, MemberDataFormat format, ImportRun run) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            Map<String, Integer> csvColumns = null;
+            String line;
+            long lineNo = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == MemberDataFormat.CSV && csvColumns == null) {
+                    csvColumns = parseCsvHeader(line);
+                    continue;
+                }
+                run.received++;
+                MemberRequest request;
+                try {
+                    request = format == MemberDataFormat.CSV ? parseCsvRow(line, csvColumns) : parseJsonRow(line);
+                } catch (IllegalArgumentException | DateTimeParseException ex) {
+                    run.reject(lineNo, null, "Malformed row: " + ex.getMessage());
+                    continue;
+                }
+                offer(run, lineNo, request);
+            }
+        }
+    }
+
+    // Errors are reported against the 1-based item number. A bad value inside an item is skipped like a bad
+    // NDJSON line; broken CBOR framing cannot be resynchronised, so the rest of the body is dropped.
+    private void readCborSequence(InputStream body, ImportRun run) throws IOException {
+        long item = 0;
+        try (MappingIterator<MemberRequest> items = cborRequestReader.readValues(body)) {
+            while (true) {
+                item++;
+                if (!items.hasNextValue()) {
+                    break;
+                }
+                run.received++;
+                MemberRequest request;
+                try {
+                    request = items.nextValue();
+                } catch (DatabindException ex) {
+                    run.reject(item, null, "Malformed row: " + ex.getOriginalMessage());
+                    continue;
+                }
+                if (request == null) {
+                    run.reject(item, null, "Malformed row: empty record");
+                    continue;
+                }
+                offer(run, item, request);
+            }
+        } catch (StreamReadException ex) {
+            run.received = item;
+            run.reject(item, null, "Malformed CBOR, remaining items skipped: " + ex.getOriginalMessage());
+        }
+    }
+
+    private void offer(ImportRun run, long line, MemberRequest request) {
+        run.accept(line, request);
+        if (run.batch.size() >= batchSize) {
+            flush(run);
+        }
+    }
+
+    // Duplicates against existing rows are resolved by the unique email index in the same statement
+    private void flush(ImportRun run) {
+        if (run.batch.isEmpty()) {
+            return;
+        }
+        List<Member> members = run.batch.stream()
+                .map(row -> Member.builder()
+                        .id(UUID.randomUUID())
+                        .firstName(row.request().getFirstName())
+                        .lastName(row.request().getLastName())
+                        .dateOfBirth(row.request().getDateOfBirth())
+                        .email(row.request().getEmail())
+                        .version(0L)
+                        .build())
+                .toList();
+
+        // The insert and its CREATED events commit together
+        Set<String> inserted = transactionTemplate.execute(status -> {
+            Set<String> emails = new HashSet<>(memberBatchRepository.insertIgnoringExisting(members));
+            for (Member member : members) {
+                if (emails.contains(member.getEmail())) {
+                    outboxWriter.record(MemberEventType.CREATED, member.getId(), MemberService.mapToResponse(member));
+                }
+            }
+            return emails;
+        });
+        for (PendingRow row : run.batch) {
+            if (!inserted.contains(row.request().getEmail())) {
+                run.errors.add(new MemberImportError(row.line(), row.request().getEmail(), "Email already exists"));
+            }
+        }
+        run.imported += inserted.size();
+        log.debug("Imported batch of {} rows ({} inserted)", members.size(), inserted.size());
+
+        run.batch.clear();
+        run.batchEmails.clear();
+    }
+
+    private MemberRequest parseJsonRow(String line) {
+        try {
+            MemberRequest request = requestReader.readValue(line);
+            if (request == null) {
+                throw new IllegalArgumentException("empty record");
+            }
+            return request;
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException(ex.getOriginalMessage(), ex);
+        }
+    }
+
+    private Map<String, Integer> parseCsvHeader(String line) {
+        List<String> names = MemberCsv.parseLine(line);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : List.of("firstname", "lastname", "dateofbirth", "email")) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("CSV header is missing column: " + required);
+            }
+        }
+        return columns;
+    }
+
+    private MemberRequest parseCsvRow(String line, Map<String, Integer> columns) {
+        List<String> fields = MemberCsv.parseLine(line);
+        if (fields.size() < columns.size()) {
+            throw new IllegalArgumentException("expected " + columns.size() + " fields but found " + fields.size());
+        }
+        String dateOfBirth = fields.get(columns.get("dateofbirth")).trim();
+        return MemberRequest.builder()
+                .firstName(fields.get(columns.get("firstname")).trim())
+                .lastName(fields.get(columns.get("lastname")).trim())
+                .dateOfBirth(dateOfBirth.isEmpty() ? null : LocalDate.parse(dateOfBirth))
+                .email(fields.get(columns.get("email")).trim())
+                .build();
+    }
+
+    private record PendingRow(long line, MemberRequest request) {
+    }
+
+    // Mutable state of one import call
+    private final class ImportRun {
+        private final List<PendingRow> batch = new ArrayList<>();
+        private final Set<String> batchEmails = new HashSet<>();
+        private final List<MemberImportError> errors = new ArrayList<>();
+        private long received;
+        private long imported;
+
+        private void accept(long line, MemberRequest request) {
+            Set<ConstraintViolation<MemberRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+                reject(line, request.getEmail(), message);
+            } else if (!batchEmails.add(request.getEmail())) {
+                reject(line, request.getEmail(), "Duplicate email in import");
+            } else {
+                batch.add(new PendingRow(line, request));
+            }
+        }
+
+        private void reject(long line, String email, String message) {
+            errors.add(new MemberImportError(line, email, message));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.surest_member_managemant.service;
+
+import com.surest_member_managemant.config.ReplicaReads;
+import com.surest_member_managemant.config.TwoTierCache;
+import com.surest_member_managemant.dto.MemberLookupResult;
+import com.surest_member_managemant.dto.MemberResponse;
+import com.surest_member_managemant.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+@Slf4j
+@Service
+public class MemberLookupService {
+
+    private final MemberRepository memberRepository;
+    private final CacheManager cacheManager;
+    private final int maxIds;
+    private final int chunkSize;
+
+    public MemberLookupService(MemberRepository memberRepository,
+                               CacheManager cacheManager,
+                               @Value("${app.members.lookup.max-ids:1000}") int maxIds,
+                               @Value("${app.members.lookup.chunk-size:500}") int chunkSize) {
+        this.memberRepository = memberRepository;
+        this.cacheManager = cacheManager;
+        this.maxIds = maxIds;
+        this.chunkSize = chunkSize;
+    }
+
+    // Resolve many members at once: cached entries come from one multi-get on the members region (one L1 and
+    // one L2 lookup), misses are loaded from a replica with IN queries of at most chunkSize ids. Loaded rows are
+    // back-filled in one batch once the read transaction commits, except rows from a replica that is behind,
+    // which are returned but not cached. Results follow request order.
+    @Transactional(readOnly = true)
+    public List<MemberLookupResult> getMembers(List<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one member id is required");
+        }
+        if (ids.size() > maxIds) {
+            throw new IllegalArgumentException("At most " + maxIds + " member ids can be looked up at once");
+        }
+
+        Set<UUID> unique = new LinkedHashSet<>(ids);
+        Cache cache = cacheManager.getCache("members");
+        Map<UUID, MemberResponse> found = cached(cache, unique);
+        int hits = found.size();
+
+        List<UUID> misses = unique.stream().filter(id -> !found.containsKey(id)).toList();
+        Map<UUID, MemberResponse> backFill = new HashMap<>();
+        for (int from = 0; from < misses.size(); from += chunkSize) {
+            List<UUID> chunk = misses.subList(from, Math.min(from + chunkSize, misses.size()));
+            List<MemberResponse> loaded = memberRepository.findResponsesByIdIn(chunk);
+            boolean fresh = !ReplicaReads.fromLaggingReplica();
+            for (MemberResponse member : loaded) {
+                found.put(member.getId(), member);
+                if (fresh) {
+                    backFill.put(member.getId(), member);
+                }
+            }
+        }
+        backFill(cache, backFill);
+        log.debug("Member lookup: requested={}, unique={}, cacheHits={}, loaded={}",
+                ids.size(), unique.size(), hits, found.size() - hits);
+
+        return ids.stream()
+                .map(id -> found.containsKey(id) ? MemberLookupResult.found(found.get(id)) : MemberLookupResult.notFound(id))
+                .toList();
+    }
+
+    // A copy cached by a concurrent update is newer than the row read here, so only absent entries are filled
+    private static void backFill(Cache cache, Map<UUID, MemberResponse> loaded) {
+        if (cache instanceof TwoTierCache twoTier) {
+            twoTier.putAllIfAbsent(loaded);
+        } else if (cache != null) {
+            loaded.forEach(cache::putIfAbsent);
+        }
+    }
+
+    private static Map<UUID, MemberResponse> cached(Cache cache, Collection<UUID> ids) {
+        Map<UUID, MemberResponse> found = new HashMap<>();
+        if (cache == null) {
+            return found;
+        }
+        if (cache instanceof TwoTierCache twoTier) {
+            twoTier.getAllPresent(ids).forEach((key, value) -> {
+                if (value instanceof MemberResponse member) {
+                    found.put((UUID) key, member);
+                }
+            });
+        } else {
+            for (UUID id : ids) {
+                MemberResponse member = cache.get(id, MemberResponse.class);
+                if (member != null) {
+                    found.put(id, member);
+                }
+            }
+        }
+        return found;
+    }
+}
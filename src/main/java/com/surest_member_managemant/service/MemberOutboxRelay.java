@@ -0,0 +1,118 @@
+package com.surest_member_managemant.service;
+
+import com.surest_member_managemant.dto.MemberChangeEvent;
+import com.surest_member_managemant.entity.MemberOutboxEvent;
+import com.surest_member_managemant.repository.MemberOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Drains the member outbox into the configured sink. Every node runs it; FOR UPDATE SKIP LOCKED hands
+// each one a disjoint batch, so adding nodes adds throughput instead of lock waits.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class MemberOutboxRelay {
+
+    private final MemberOutboxRepository outboxRepository;
+    private final MemberEventSink sink;
+    private final MemberOutboxWriter outboxWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retention;
+    private final Counter published;
+    private final Counter failures;
+    private final Timer publishTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public MemberOutboxRelay(MemberOutboxRepository outboxRepository,
+                             MemberEventSink sink,
+                             MemberOutboxWriter outboxWriter,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.outbox.relay.batch-size:200}") int batchSize,
+                             @Value("${app.outbox.retention:24h}") Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.outboxWriter = outboxWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.published = Counter.builder("member.outbox.published")
+                .description("Member events handed to the sink")
+                .register(meterRegistry);
+        this.failures = Counter.builder("member.outbox.relay.failures")
+                .description("Relay batches rolled back for retry")
+                .register(meterRegistry);
+        this.publishTimer = Timer.builder("member.outbox.sink.publish")
+                .description("Time the sink takes per batch")
+                .register(meterRegistry);
+        Gauge.builder("member.outbox.lag", lagMillis, lag -> lag.get() / 1000.0)
+                .description("Age of the oldest unpublished member event")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    // Keep draining while batches come back full, then refresh the lag gauge
+    @Scheduled(fixedDelayString = "${app.outbox.relay.interval:500ms}")
+    public void drain() {
+        int relayed;
+        do {
+            relayed = relayBatch();
+        } while (relayed == batchSize);
+        lagMillis.set(outboxRepository.findOldestUnpublishedAgeMillis()
+                .map(age -> Math.max(0, age))
+                .orElse(0L));
+    }
+
+    // Lock, publish and mark one batch in one transaction. If the sink fails, the rollback releases
+    // the rows and the next run retries them.
+    int relayBatch() {
+        try {
+            Integer relayed = transactionTemplate.execute(status -> {
+                List<MemberOutboxEvent> rows = outboxRepository.lockUnpublished(batchSize);
+                if (rows.isEmpty()) {
+                    return 0;
+                }
+                List<MemberChangeEvent> events = rows.stream().map(outboxWriter::toEvent).toList();
+                Timer.Sample sample = Timer.start();
+                try {
+                    sink.publish(events);
+                } catch (Exception e) {
+                    throw new IllegalStateException("Member event sink failed", e);
+                } finally {
+                    sample.stop(publishTimer);
+                }
+                outboxRepository.markPublished(rows.stream().map(MemberOutboxEvent::getId).toList(), LocalDateTime.now());
+                return rows.size();
+            });
+            int count = relayed == null ? 0 : relayed;
+            published.increment(count);
+            return count;
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Member outbox relay batch failed, will retry: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.cleanup-interval:1h}")
+    public void deletePublished() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        log.debug("Deleted {} published member events", deleted);
+    }
+}
@@ -0,0 +1,105 @@
+package com.surest_member_managemant.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.surest_member_managemant.dto.MemberChangeEvent;
+import com.surest_member_managemant.dto.MemberResponse;
+import com.surest_member_managemant.entity.MemberEventType;
+import com.surest_member_managemant.entity.MemberOutboxEvent;
+import com.surest_member_managemant.repository.MemberOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+// Records member changes in the outbox. MANDATORY: an event must commit or roll back with the change it describes.
+// The recorded events are also published in-process; listeners that only want committed changes use
+// @TransactionalEventListener (the change feed does).
+@Service
+@RequiredArgsConstructor
+public class MemberOutboxWriter {
+
+    private final MemberOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(MemberEventType type, UUID memberId, MemberResponse member) {
+        MemberOutboxEvent row = outboxRepository.save(MemberOutboxEvent.builder()
+                .memberId(memberId)
+                .eventType(type)
+                .payload(member == null ? null : toJson(member))
+                .createdAt(outboxRepository.databaseTime())
+                .build());
+        eventPublisher.publishEvent(new MemberChangesRecorded(List.of(toEvent(row, member))));
+    }
+
+    // Set-based writes that return the rows they wrote; events carry the same payload as single writes
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordMembers(MemberEventType type, List<MemberResponse> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = outboxRepository.databaseTime();
+        List<MemberOutboxEvent> rows = outboxRepository.saveAll(members.stream()
+                .map(member -> MemberOutboxEvent.builder()
+                        .memberId(member.getId())
+                        .eventType(type)
+                        .payload(toJson(member))
+                        .createdAt(now)
+                        .build())
+                .toList());
+        List<MemberChangeEvent> events = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            events.add(toEvent(rows.get(i), members.get(i)));
+        }
+        eventPublisher.publishEvent(new MemberChangesRecorded(events));
+    }
+
+    // Set-based deletes only know the ids they touched
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(MemberEventType type, Collection<UUID> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = outboxRepository.databaseTime();
+        List<MemberOutboxEvent> rows = outboxRepository.saveAll(memberIds.stream()
+                .map(id -> MemberOutboxEvent.builder().memberId(id).eventType(type).createdAt(now).build())
+                .toList());
+        eventPublisher.publishEvent(new MemberChangesRecorded(rows.stream().map(row -> toEvent(row, null)).toList()));
+    }
+
+    // Read side of the payload format written above
+    public MemberChangeEvent toEvent(MemberOutboxEvent row) {
+        try {
+            return toEvent(row, row.getPayload() == null ? null : objectMapper.readValue(row.getPayload(), MemberResponse.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable outbox payload for event " + row.getId(), e);
+        }
+    }
+
+    private static MemberChangeEvent toEvent(MemberOutboxEvent row, MemberResponse member) {
+        return MemberChangeEvent.builder()
+                .sequence(row.getId())
+                .type(row.getEventType())
+                .memberId(row.getMemberId())
+                .member(member)
+                .occurredAt(row.getCreatedAt())
+                .build();
+    }
+
+    private String toJson(MemberResponse member) {
+        try {
+            return objectMapper.writeValueAsString(member);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize member " + member.getId(), e);
+        }
+    }
+}
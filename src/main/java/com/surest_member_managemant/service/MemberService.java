@@ -1,31 +1,60 @@
 package com.surest_member_managemant.service;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.surest_member_managemant.config.TwoTierCache;
+import com.surest_member_managemant.dto.CursorPage;
 import com.surest_member_managemant.dto.MemberRequest;
 import com.surest_member_managemant.dto.MemberResponse;
+import com.surest_member_managemant.dto.PageResponse;
 import com.surest_member_managemant.entity.Member;
+import com.surest_member_managemant.entity.MemberEventType;
+import com.surest_member_managemant.exception.ConflictException;
 import com.surest_member_managemant.exception.NotFoundException;
+import com.surest_member_managemant.exception.PreconditionRequiredException;
 import com.surest_member_managemant.repository.MemberRepository;
-import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.*;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Objects;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MemberService {
 
+    // Upper bound for one keyset page; larger reads belong on /delta or /export
+    static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
     private final MemberRepository memberRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final MemberOutboxWriter outboxWriter;
+    private final CacheManager cacheManager;
     
      // Create a new member. Ensures email uniqueness before saving.
   
     @Transactional
+    @CacheEvict(value = "memberPages", allEntries = true)
     public MemberResponse createMember(MemberRequest request) {
         log.info("Attempting to create member with email: {}", request.getEmail());
 
@@ -44,34 +73,104 @@ public class MemberService {
         Member saved = memberRepository.saveAndFlush(member);
 
         log.debug("Member created successfully with ID: {}", saved.getId());
-        return mapToResponse(saved);
+        MemberResponse response = mapToResponse(saved);
+        // Same transaction as the insert: the event exists exactly when the member does
+        outboxWriter.record(MemberEventType.CREATED, saved.getId(), response);
+        return response;
     }
 
     
-   // Retrieve a paginated and optionally filtered list of members.
+   // Retrieve a paginated and optionally filtered list of members (cached until the next write).
+   // Totals are only computed when asked for; otherwise a slice query answers hasNext without a COUNT(*).
+   // Rows are projected into MemberResponse by the query, so no entities are loaded.
+   // Read from a replica; a page read from a replica that is behind is not cached.
      
-    public Page<MemberResponse> getAllMembers(String firstName, String lastName, Pageable pageable) {
-        log.info("Fetching members with filters - firstName: {}, lastName: {}", firstName, lastName);
-
-        Page<Member> memberPage;
+    @Transactional(readOnly = true)
+    @Cacheable(value = "memberPages",
+            key = "T(com.surest_member_managemant.service.MemberService).pageKey(#firstName, #lastName, #pageable, #withTotal)",
+            unless = "T(com.surest_member_managemant.config.ReplicaReads).fromLaggingReplica()")
+    public PageResponse<MemberResponse> getAllMembers(String firstName, String lastName, Pageable pageable, boolean withTotal) {
+        log.info("Fetching members with filters - firstName: {}, lastName: {}, withTotal: {}", firstName, lastName, withTotal);
+        if (withTotal) {
+            Page<MemberResponse> memberPage;
+            if (firstName != null && lastName != null) {
+                memberPage = memberRepository.findByFirstNameContainingIgnoreCaseAndLastNameContainingIgnoreCase(firstName, lastName, pageable);
+            } else if (firstName != null) {
+                memberPage = memberRepository.findByFirstNameContainingIgnoreCase(firstName, pageable);
+            } else if (lastName != null) {
+                memberPage = memberRepository.findByLastNameContainingIgnoreCase(lastName, pageable);
+            } else {
+                memberPage = memberRepository.findPageBy(pageable);
+            }
+            PageResponse<MemberResponse> response = toPageResponse(memberPage);
+            response.setTotalElements(memberPage.getTotalElements());
+            response.setTotalPages(memberPage.getTotalPages());
+            return response;
+        }
 
+        Slice<MemberResponse> memberSlice;
         if (firstName != null && lastName != null) {
-            memberPage = memberRepository.findByFirstNameContainingIgnoreCaseAndLastNameContainingIgnoreCase(firstName, lastName, pageable);
+            memberSlice = memberRepository.findSliceByFirstNameAndLastName(firstName, lastName, pageable);
         } else if (firstName != null) {
-            memberPage = memberRepository.findByFirstNameContainingIgnoreCase(firstName, pageable);
+            memberSlice = memberRepository.findSliceByFirstName(firstName, pageable);
         } else if (lastName != null) {
-            memberPage = memberRepository.findByLastNameContainingIgnoreCase(lastName, pageable);
+            memberSlice = memberRepository.findSliceByLastName(lastName, pageable);
+        } else {
+            memberSlice = memberRepository.findSliceBy(pageable);
+        }
+        return toPageResponse(memberSlice);
+    }
+
+    private static PageResponse<MemberResponse> toPageResponse(Slice<MemberResponse> slice) {
+        return PageResponse.<MemberResponse>builder()
+                .content(slice.getContent())
+                .page(slice.getNumber())
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .build();
+    }
+
+    
+   // Retrieve a keyset page ordered by newest first. An empty cursor starts from the top.
+     
+    @Transactional(readOnly = true)
+    public CursorPage<MemberResponse> getMembersAfter(String after, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        log.info("Fetching members after cursor (size={})", size);
+
+        // Fetch one extra row to learn whether another page exists without a COUNT query
+        List<Member> rows;
+        if (after == null || after.isBlank()) {
+            rows = memberRepository.findKeysetFirstPage(size + 1);
         } else {
-            memberPage = memberRepository.findAll(pageable);
+            MemberCursor cursor = MemberCursor.decode(after);
+            rows = memberRepository.findKeysetPageAfter(cursor.getTimestamp(), cursor.getId(), size + 1);
         }
 
-        return memberPage.map(this::mapToResponse);
+        boolean hasNext = rows.size() > size;
+        List<Member> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Member last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new MemberCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorPage.<MemberResponse>builder()
+                .content(pageRows.stream().map(MemberService::mapToResponse).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
     }
 
     
-   // Retrieve member details by ID (cached).
+   // Retrieve member details by ID (cached). Read from a replica; a row read from a replica that is
+   // behind may be the previous version, so it is returned but not cached.
      
-    @Cacheable(value = "members", key = "#id")
+    @Transactional(readOnly = true)
+    @Cacheable(value = "members", key = "#id", unless = "T(com.surest_member_managemant.config.ReplicaReads).fromLaggingReplica()")
     public MemberResponse getMemberById(UUID id) {
         log.info("Fetching member by ID: {}", id);
         Member member = memberRepository.findById(id)
@@ -80,63 +179,185 @@ public class MemberService {
     }
 
     
-  // Update an existing member (cached and transactional).
+  // Update an existing member in one statement, guarded by the version the client last read (from the body or
+  // If-Match); without one the update is refused, so a blind PUT cannot overwrite a concurrent change.
+  // The cached entry is evicted on every node; the next read loads the new version.
      
     @Transactional
-    @CachePut(value = "members", key = "#id")
+    @Caching(evict = {
+            @CacheEvict(value = "members", key = "#id"),
+            @CacheEvict(value = "memberPages", allEntries = true)})
     public MemberResponse updateMember(UUID id, MemberRequest request) {
         log.info("Updating member with ID: {}", id);
+        if (request.getVersion() == null) {
+            throw new PreconditionRequiredException("version is required: send the member's version or an If-Match header");
+        }
 
-        Member existing = memberRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Member not found"));
+        // One UPDATE ... RETURNING; the unique index on email replaces the duplicate pre-check
+        Optional<Member> result;
+        try {
+            result = memberRepository.updateReturning(id, request.getFirstName(), request.getLastName(),
+                    request.getDateOfBirth(), request.getEmail(), request.getVersion());
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateEmail(e)) {
+                throw e;
+            }
+            log.warn("Duplicate email detected during update: {}", request.getEmail());
+            throw new IllegalArgumentException("Email already exists");
+        }
 
-        String existingEmail = existing.getEmail();
-        String newEmail = request.getEmail();
+        // No row matched: tell a missing member apart from a stale version (failure path only)
+        Member updated = result.orElseThrow(() -> memberRepository.existsById(id)
+                ? new ConflictException("Member was modified by another request; reload and retry")
+                : new NotFoundException("Member not found"));
+        log.debug("Member updated successfully with ID: {} (version {})", updated.getId(), updated.getVersion());
 
-        // Validate email uniqueness
-        if (!Objects.equals(existingEmail, newEmail) &&
-                memberRepository.existsByEmailAndIdNot(newEmail, id)) {
-            log.warn("Duplicate email detected during update: {}", newEmail);
-            throw new IllegalArgumentException("Email already exists");
+        MemberResponse response = mapToResponse(updated);
+        outboxWriter.record(MemberEventType.UPDATED, id, response);
+        return response;
+    }
+
+    
+   // Apply a JSON Merge Patch. Only fields that actually change are dirty, and @DynamicUpdate limits the
+   // UPDATE to those columns (plus version/updated_at). The cached entry is refreshed in place after commit;
+   // other nodes evict theirs.
+     
+    @Transactional
+    @CacheEvict(value = "memberPages", allEntries = true)
+    public MemberResponse patchMember(UUID id, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("Merge patch must be a JSON object");
         }
+        log.info("Patching member with ID: {} (fields: {})", id, patch.size());
 
-        // Update entity fields
-        existing.setFirstName(request.getFirstName());
-        existing.setLastName(request.getLastName());
-        existing.setDateOfBirth(request.getDateOfBirth());
-        existing.setEmail(newEmail);
+        Member member = memberRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Member not found"));
+        MemberRequest merged = mergePatch(member, patch);
+        if (merged.getVersion() != null && !merged.getVersion().equals(member.getVersion())) {
+            throw new ConflictException("Member was modified by another request; reload and retry");
+        }
 
-        Member updated = memberRepository.save(existing);
-        log.debug("Member updated successfully with ID: {}", updated.getId());
+        member.setFirstName(merged.getFirstName());
+        member.setLastName(merged.getLastName());
+        member.setDateOfBirth(merged.getDateOfBirth());
+        member.setEmail(merged.getEmail());
+        try {
+            member = memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateEmail(e)) {
+                throw e;
+            }
+            log.warn("Duplicate email detected during patch: {}", merged.getEmail());
+            throw new IllegalArgumentException("Email already exists");
+        }
+        MemberResponse response = mapToResponse(member);
+        outboxWriter.record(MemberEventType.UPDATED, id, response);
+        refreshCachedMember(response);
+        return response;
+    }
 
-        return mapToResponse(updated);
+    // Deferred to commit by the cache itself, so a rolled-back patch never reaches it
+    private void refreshCachedMember(MemberResponse member) {
+        Cache cache = cacheManager.getCache("members");
+        if (cache instanceof TwoTierCache twoTier) {
+            twoTier.putAndEvictPeers(member.getId(), member);
+        } else if (cache != null) {
+            cache.put(member.getId(), member);
+        }
     }
 
     
    //Delete member by ID (cached eviction).
      
     @Transactional
-    @CacheEvict(value = "members", key = "#id")
+    @Caching(evict = {
+            @CacheEvict(value = "members", key = "#id"),
+            @CacheEvict(value = "memberPages", allEntries = true)})
     public void deleteMember(UUID id) {
         log.warn("Deleting member with ID: {}", id);
-        if (!memberRepository.existsById(id)) {
+        if (memberRepository.deleteMemberById(id) == 0) {
             log.error("Delete failed - member not found with ID: {}", id);
             throw new NotFoundException("Member not found");
         }
-        memberRepository.deleteById(id);
+        outboxWriter.record(MemberEventType.DELETED, id, null);
         log.info("Member deleted successfully with ID: {}", id);
     }
 
     
+    // Merge the patch over the member's current values and validate the result like a full PUT body.
+    // A null removes a field, which fails validation since every member field is required.
+     
+    private MemberRequest mergePatch(Member member, JsonNode patch) {
+        MemberRequest current = MemberRequest.builder()
+                .firstName(member.getFirstName())
+                .lastName(member.getLastName())
+                .dateOfBirth(member.getDateOfBirth())
+                .email(member.getEmail())
+                .build();
+        MemberRequest merged;
+        try {
+            merged = objectMapper.readerForUpdating(current)
+                    .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(patch);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid merge patch: " + e.getMessage());
+        }
+        Set<ConstraintViolation<MemberRequest>> violations = validator.validate(merged);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return merged;
+    }
+
+    
+    // Only the unique email constraint means "Email already exists"; other violations surface as they are
+    static boolean isDuplicateEmail(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return Member.EMAIL_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName());
+            }
+        }
+        return false;
+    }
+
+    
+    // Cache key for a list page. Filters match case-insensitively, so they are lowercased to share entries.
+    // Public for the SpEL key expression, which only resolves public methods.
+     
+    public static PageKey pageKey(String firstName, String lastName, Pageable pageable, boolean withTotal) {
+        return new PageKey(
+                firstName == null ? "" : firstName.toLowerCase(Locale.ROOT),
+                lastName == null ? "" : lastName.toLowerCase(Locale.ROOT),
+                pageable.isPaged() ? pageable.getPageNumber() : -1,
+                pageable.isPaged() ? pageable.getPageSize() : -1,
+                pageable.getSort().toString(),
+                withTotal);
+    }
+
+    // L1 compares keys with equals; the shared tier stores String.valueOf(key), so toString length-prefixes the
+    // caller-controlled filters and ends with the sort, keeping the string form unambiguous as well
+    public record PageKey(String first, String last, int page, int size, String sort, boolean withTotal) {
+        @Override
+        public String toString() {
+            return first.length() + ":" + first + "|" + last.length() + ":" + last + "|" + page + ":" + size
+                    + "|" + withTotal + "|" + sort;
+        }
+    }
+
+    
     // Helper method to convert Member entity to MemberResponse DTO.
      
-    private MemberResponse mapToResponse(Member member) {
+    static MemberResponse mapToResponse(Member member) {
         return MemberResponse.builder()
                 .id(member.getId())
                 .firstName(member.getFirstName())
                 .lastName(member.getLastName())
                 .dateOfBirth(member.getDateOfBirth())
                 .email(member.getEmail())
+                .version(member.getVersion())
                 .build();
     }
 }
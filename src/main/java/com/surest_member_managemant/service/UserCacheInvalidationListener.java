@@ -0,0 +1,33 @@
+package com.surest_member_managemant.service;
+
+import com.surest_member_managemant.config.UserDetailsCache;
+import com.surest_member_managemant.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+// Drops cached UserDetails whenever a user or role row changes. A user change (a password rehash after
+// login, a delete) evicts just that username on every node; usernames are never changed by the app, so
+// the key is the one the entry was cached under. A role change affects every user holding it, so the
+// whole region is cleared; those writes are rare. The cache is resolved lazily because Hibernate builds
+// listeners during bootstrap.
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener {
+
+    private final ObjectProvider<UserDetailsCache> userDetailsCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        userDetailsCache.ifAvailable(cache -> {
+            if (entity instanceof User user) {
+                cache.removeUserFromCache(user.getUsername());
+            } else {
+                cache.clear();
+            }
+        });
+    }
+}
@@ -0,0 +1,10 @@
+-- V10__name_member_email_constraint.sql
+-- Give the unique constraint on member.email a fixed name, so a duplicate email can be told apart
+-- from other integrity violations by constraint name.
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_member_email') THEN
+        ALTER TABLE surestdatabase.member ADD CONSTRAINT uk_member_email UNIQUE (email);
+    END IF;
+END $$;
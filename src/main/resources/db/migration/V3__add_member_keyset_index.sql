@@ -0,0 +1,5 @@
+-- V3__add_member_keyset_index.sql
+-- Supports keyset (seek) pagination on GET /api/v1/members?after=...
+
+CREATE INDEX IF NOT EXISTS idx_member_created_at_id
+    ON surestdatabase.member (created_at DESC, id DESC);
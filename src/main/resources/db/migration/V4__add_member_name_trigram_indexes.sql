@@ -0,0 +1,11 @@
+-- V4__add_member_name_trigram_indexes.sql
+-- Trigram GIN indexes so case-insensitive substring filters on GET /api/v1/members
+-- (lower(first_name) LIKE '%term%') use an index instead of a sequential scan.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_member_first_name_trgm
+    ON surestdatabase.member USING gin (lower(first_name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_member_last_name_trgm
+    ON surestdatabase.member USING gin (lower(last_name) gin_trgm_ops);
@@ -0,0 +1,6 @@
+-- V5__add_member_version.sql
+-- Optimistic-lock version for members; PUT /api/v1/members/{id} updates with
+-- WHERE id = ? AND version = ? and bumps it in the same statement.
+
+ALTER TABLE surestdatabase.member
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
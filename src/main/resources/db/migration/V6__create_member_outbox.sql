@@ -0,0 +1,19 @@
+-- V6__create_member_outbox.sql
+-- Transactional outbox for member change events. Rows are written in the same transaction as the
+-- member change and drained by MemberOutboxRelay with FOR UPDATE SKIP LOCKED; published rows are
+-- kept for app.outbox.retention and then deleted.
+
+CREATE SEQUENCE IF NOT EXISTS surestdatabase.member_outbox_id_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS surestdatabase.member_outbox (
+    id           BIGINT PRIMARY KEY DEFAULT nextval('surestdatabase.member_outbox_id_seq'),
+    member_id    UUID        NOT NULL,
+    event_type   VARCHAR(16) NOT NULL,
+    payload      TEXT,
+    created_at   TIMESTAMP   NOT NULL DEFAULT now(),
+    published_at TIMESTAMP
+);
+
+-- The relay only ever scans unpublished rows in id order
+CREATE INDEX IF NOT EXISTS idx_member_outbox_unpublished
+    ON surestdatabase.member_outbox (id) WHERE published_at IS NULL;
@@ -0,0 +1,6 @@
+-- V7__index_member_outbox_created_at.sql
+-- The member change feed reads the outbox by time window, published rows included, both for
+-- events written on other nodes and for Last-Event-ID replays.
+
+CREATE INDEX IF NOT EXISTS idx_member_outbox_created_at
+    ON surestdatabase.member_outbox (created_at, id);
@@ -0,0 +1,18 @@
+-- V8__add_member_delta_sync.sql
+-- Incremental sync (GET /api/v1/members/delta?since=...) reads members by (updated_at, id) and
+-- deletions from tombstones by (deleted_at, member_id), each as a keyset range scan.
+
+ALTER TABLE surestdatabase.member
+    ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP NOT NULL DEFAULT now();
+
+CREATE INDEX IF NOT EXISTS idx_member_updated_at_id
+    ON surestdatabase.member (updated_at, id);
+
+-- Written by the same statement that deletes the member; pruned after app.members.delta.tombstone-retention
+CREATE TABLE IF NOT EXISTS surestdatabase.member_tombstone (
+    member_id  UUID PRIMARY KEY,
+    deleted_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_member_tombstone_deleted_at_id
+    ON surestdatabase.member_tombstone (deleted_at, member_id);
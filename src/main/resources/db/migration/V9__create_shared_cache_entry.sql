@@ -0,0 +1,15 @@
+-- V9__create_shared_cache_entry.sql
+-- Shared (L2) cache tier, enabled with app.cache.shared.enabled=true. UNLOGGED: entries can always be
+-- reloaded, so writes skip the WAL and the table is emptied after a crash rather than replayed.
+
+CREATE UNLOGGED TABLE IF NOT EXISTS surestdatabase.shared_cache_entry (
+    region     VARCHAR(255) NOT NULL,
+    cache_key  TEXT         NOT NULL,
+    value      BYTEA        NOT NULL,
+    expires_at TIMESTAMP,
+    PRIMARY KEY (region, cache_key)
+);
+
+-- Purged every app.cache.shared.purge-interval; reads skip expired rows in the meantime
+CREATE INDEX IF NOT EXISTS idx_shared_cache_entry_expires_at
+    ON surestdatabase.shared_cache_entry (expires_at);
@@ -0,0 +1,120 @@
+package com.surest_member_managemant.config;
+
+import com.surest_member_managemant.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.shutdown();
+    }
+
+    @Test
+    void matchesRunsOnDedicatedPool() {
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.matches(eq("secret"), eq("hash"))).thenAnswer(invocation ->
+                Thread.currentThread().getName().startsWith("password-encoder-"));
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, meterRegistry);
+
+        assertTrue(encoder.matches("secret", "hash"));
+        assertNotNull(meterRegistry.find("executor.completed").tag("name", "passwordEncoder").functionCounter());
+    }
+
+    @Test
+    void saturatedPoolRejectsImmediatelyWith503() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.matches(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, meterRegistry);
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "h"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "h"));
+        while (meterRegistry.get("executor.queued").tag("name", "passwordEncoder").gauge().value() < 1) {
+            Thread.sleep(10);
+        }
+
+        assertThrows(ServiceUnavailableException.class, () -> encoder.matches("c", "h"));
+        assertEquals(1.0, meterRegistry.get("password.encoder.rejected").counter().count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void withoutQueueOnlyBusyThreadsWaitAndTheNextCallerIsRejected() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.matches(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        encoder = new BoundedPasswordEncoder(delegate, 1, 0, meterRegistry);
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "h"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(ServiceUnavailableException.class, () -> encoder.matches("b", "h"));
+        assertEquals(1.0, meterRegistry.get("password.encoder.rejected").counter().count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void upgradeEncodeAfterAVerifiedLoginRunsOnTheCallerWhenThePoolIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.matches(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        when(delegate.encode("secret")).thenAnswer(invocation -> "hash-on-" + Thread.currentThread().getName());
+        encoder = new BoundedPasswordEncoder(delegate, 1, 0, meterRegistry);
+        PasswordEncoder login = encoder.forAuthentication();
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> login.matches("a", "h"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(ServiceUnavailableException.class, () -> login.matches("b", "h"));
+        assertThrows(ServiceUnavailableException.class, () -> encoder.encode("secret"));
+        assertEquals("hash-on-" + Thread.currentThread().getName(), login.encode("secret"));
+        assertEquals(2.0, meterRegistry.get("password.encoder.rejected").counter().count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void upgradeEncodingIsForwarded() {
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.upgradeEncoding("old")).thenReturn(true);
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, meterRegistry);
+
+        assertTrue(encoder.upgradeEncoding("old"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.surest_member_managemant.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class CacheConfigTest {
+
+    private static RegionCacheLoader loader(String region) {
+        return new RegionCacheLoader() {
+            @Override
+            public String region() {
+                return region;
+            }
+
+            @Override
+            public Object load(Object key) {
+                return "loaded-" + key;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TwoTierCacheManager cacheManager(CacheRegionProperties properties, List<RegionCacheLoader> loaders) {
+        return new CacheConfig().cacheManager(properties, loaders,
+                mock(ObjectProvider.class), mock(ObjectProvider.class), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void configuredRegionUsesItsOwnBoundsAndLoader() {
+        CacheRegionProperties properties = new CacheRegionProperties();
+        properties.getRegions().put("members",
+                new CacheRegionProperties.Region(50L, Duration.ofMinutes(10), Duration.ofMinutes(5)));
+
+        TwoTierCacheManager manager = cacheManager(properties, List.of(loader("members")));
+
+        Cache<Object, Object> nativeCache = ((TwoTierCache) manager.getCache("members")).getNativeCache();
+        assertInstanceOf(LoadingCache.class, nativeCache);
+        assertEquals(50L, nativeCache.policy().eviction().orElseThrow().getMaximum());
+        assertEquals(Duration.ofMinutes(10), nativeCache.policy().expireAfterWrite().orElseThrow().getExpiresAfter());
+        assertTrue(nativeCache.policy().refreshAfterWrite().isPresent());
+        assertTrue(nativeCache.policy().isRecordingStats());
+        assertEquals("loaded-42", manager.getCache("members").get(42).get());
+    }
+
+    @Test
+    void unconfiguredRegionFallsBackToBoundedDefaults() {
+        TwoTierCacheManager manager = cacheManager(new CacheRegionProperties(), List.of());
+
+        Cache<Object, Object> nativeCache = ((TwoTierCache) manager.getCache("other")).getNativeCache();
+        assertEquals(1000L, nativeCache.policy().eviction().orElseThrow().getMaximum());
+        assertEquals(Duration.ofMinutes(30), nativeCache.policy().expireAfterWrite().orElseThrow().getExpiresAfter());
+        assertFalse(nativeCache.policy().refreshAfterWrite().isPresent());
+        assertTrue(nativeCache.policy().isRecordingStats());
+    }
+
+    @Test
+    void refreshWithoutLoaderFailsFast() {
+        CacheRegionProperties properties = new CacheRegionProperties();
+        properties.getRegions().put("members", new CacheRegionProperties.Region(null, null, Duration.ofMinutes(1)));
+
+        assertThrows(IllegalStateException.class, () -> cacheManager(properties, List.of()));
+    }
+}
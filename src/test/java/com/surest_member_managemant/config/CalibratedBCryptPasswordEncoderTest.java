@@ -0,0 +1,52 @@
+package com.surest_member_managemant.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalibratedBCryptPasswordEncoderTest {
+
+    private final CalibratedBCryptPasswordEncoder bcrypt = new CalibratedBCryptPasswordEncoder(5);
+
+    @Test
+    void upgradeEncodingOnAnyCostMismatch() {
+        assertTrue(bcrypt.upgradeEncoding(BCrypt.hashpw("pw", BCrypt.gensalt(4))));
+        assertTrue(bcrypt.upgradeEncoding(BCrypt.hashpw("pw", BCrypt.gensalt(6))));
+        assertFalse(bcrypt.upgradeEncoding(BCrypt.hashpw("pw", BCrypt.gensalt(5))));
+        assertFalse(bcrypt.upgradeEncoding(null));
+    }
+
+    @Test
+    void delegatingEncoderVerifiesLegacyHashesAndAsksForRehash() {
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        String legacy = BCrypt.hashpw("Admin@123", BCrypt.gensalt(5));
+
+        assertTrue(encoder.matches("Admin@123", legacy));
+        assertTrue(encoder.upgradeEncoding(legacy), "unprefixed hashes are rewritten with an id");
+
+        String current = encoder.encode("Admin@123");
+        assertTrue(current.startsWith("{bcrypt}$2a$05$"));
+        assertFalse(encoder.upgradeEncoding(current));
+    }
+
+    @Test
+    void calibratorStaysWithinRange() {
+        int cost = BCryptCostCalibrator.calibrate(Duration.ofMillis(1), 4, 6);
+
+        assertTrue(cost >= 4 && cost <= 6);
+        assertThrows(IllegalArgumentException.class, () -> BCryptCostCalibrator.calibrate(Duration.ofMillis(1), 8, 6));
+    }
+
+    @Test
+    void encoderIsUsableAsPasswordEncoder() {
+        PasswordEncoder encoder = bcrypt;
+        assertTrue(encoder.matches("secret", encoder.encode("secret")));
+    }
+}
@@ -0,0 +1,92 @@
+package com.surest_member_managemant.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationCacheTest {
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtAuthenticationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new JwtAuthenticationCache(jwtUtil, 100, meterRegistry);
+    }
+
+    @Test
+    void authenticateVerifiesOnlyOnFirstUse() {
+        when(jwtUtil.verify("token")).thenReturn(Optional.of(
+                new VerifiedToken("admin", List.of("ROLE_ADMIN"), Instant.now().plusSeconds(3600))));
+
+        Authentication first = cache.authenticate("token").orElseThrow();
+        Authentication second = cache.authenticate("token").orElseThrow();
+
+        assertEquals("admin", first.getName());
+        assertTrue(first.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
+        assertEquals(first.getAuthorities(), second.getAuthorities());
+        verify(jwtUtil, times(1)).verify("token");
+    }
+
+    @Test
+    void eachRequestGetsItsOwnAuthentication() {
+        when(jwtUtil.verify("token")).thenReturn(Optional.of(
+                new VerifiedToken("admin", List.of("ROLE_ADMIN"), Instant.now().plusSeconds(3600))));
+
+        UsernamePasswordAuthenticationToken first =
+                (UsernamePasswordAuthenticationToken) cache.authenticate("token").orElseThrow();
+        first.setDetails("request-1");
+        Authentication second = cache.authenticate("token").orElseThrow();
+
+        assertNotSame(first, second);
+        assertNull(second.getDetails());
+        assertTrue(second.isAuthenticated());
+    }
+
+    @Test
+    void authenticateDoesNotCacheInvalidTokens() {
+        when(jwtUtil.verify("bad")).thenReturn(Optional.empty());
+
+        assertTrue(cache.authenticate("bad").isEmpty());
+        assertTrue(cache.authenticate("bad").isEmpty());
+        verify(jwtUtil, times(2)).verify("bad");
+    }
+
+    @Test
+    void authenticateNeverReturnsAuthenticationPastTokenExpiry() {
+        when(jwtUtil.verify("expiring")).thenReturn(Optional.of(
+                new VerifiedToken("user", List.of("ROLE_USER"), Instant.now().minusMillis(1))));
+
+        assertTrue(cache.authenticate("expiring").isEmpty());
+    }
+
+    @Test
+    void hitAndMissCountsArePublished() {
+        when(jwtUtil.verify("token")).thenReturn(Optional.of(
+                new VerifiedToken("admin", List.of("ROLE_ADMIN"), Instant.now().plusSeconds(3600))));
+
+        cache.authenticate("token");
+        cache.authenticate("token");
+
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "jwtAuthentication").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "jwtAuthentication").tag("result", "miss")
+                .functionCounter().count());
+    }
+}
@@ -6,14 +6,16 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -32,7 +34,6 @@ class JwtAuthenticationFilterTest {
     @Mock
     private FilterChain filterChain;
 
-    @InjectMocks
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
     private StringWriter responseWriter;
@@ -40,6 +41,8 @@ class JwtAuthenticationFilterTest {
     @BeforeEach
     void setUp() throws Exception {
         MockitoAnnotations.openMocks(this);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(
+                new JwtAuthenticationCache(jwtUtil, 100, new SimpleMeterRegistry()));
         responseWriter = new StringWriter();
         when(response.getWriter()).thenReturn(new PrintWriter(responseWriter));
         SecurityContextHolder.clearContext(); // clear previous authentication
@@ -50,9 +53,8 @@ class JwtAuthenticationFilterTest {
     void doFilterInternalValidTokenSetsAuthentication() throws Exception {
         // Arrange
         when(request.getHeader("Authorization")).thenReturn("Bearer valid-token");
-        when(jwtUtil.validateToken("valid-token")).thenReturn(true);
-        when(jwtUtil.getUsername("valid-token")).thenReturn("admin");
-        when(jwtUtil.getRoles("valid-token")).thenReturn(List.of("ROLE_ADMIN"));
+        when(jwtUtil.verify("valid-token")).thenReturn(Optional.of(
+                new VerifiedToken("admin", List.of("ROLE_ADMIN"), Instant.now().plusSeconds(3600))));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -72,7 +74,7 @@ class JwtAuthenticationFilterTest {
     void doFilterInternalInvalidTokenReturnsUnauthorized() throws Exception {
         // Arrange
         when(request.getHeader("Authorization")).thenReturn("Bearer invalid-token");
-        when(jwtUtil.validateToken("invalid-token")).thenReturn(false);
+        when(jwtUtil.verify("invalid-token")).thenReturn(Optional.empty());
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -6,6 +6,7 @@ import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Date;
 
@@ -90,4 +91,34 @@ class JwtUtilTest {
         List<String> extractedRoles = jwtUtil.getRoles(token);
         assertEquals(roles, extractedRoles, "Roles extracted from token should match");
     }
+
+    @Test
+    void testVerifyReturnsSubjectRolesAndExpiry() {
+        List<String> roles = List.of("ROLE_ADMIN", "ROLE_USER");
+        String token = jwtUtil.generateToken("admin", roles);
+
+        VerifiedToken verified = jwtUtil.verify(token).orElseThrow();
+
+        assertEquals("admin", verified.getSubject(), "Subject should match");
+        assertEquals(roles, verified.getRoles(), "Roles should match");
+        assertTrue(verified.getExpiresAt().isAfter(Instant.now()), "Expiry should be in the future");
+    }
+
+    @Test
+    void testVerifyRejectsTamperedAndForeignTokens() {
+        String token = jwtUtil.generateToken("user", List.of("ROLE_USER"));
+        String foreign = new JwtUtil("AnotherSecretKeyForJwtTesting123456789", 60_000).generateToken("user", List.of("ROLE_USER"));
+
+        assertTrue(jwtUtil.verify(token + "invalid").isEmpty(), "Tampered token should be rejected");
+        assertTrue(jwtUtil.verify(foreign).isEmpty(), "Token signed with another key should be rejected");
+        assertTrue(jwtUtil.verify("").isEmpty(), "Empty token should be rejected");
+    }
+
+    @Test
+    void testVerifyRejectsExpiredToken() {
+        JwtUtil expiredUtil = new JwtUtil(secretKey, -60_000);
+        String token = expiredUtil.generateToken("user", List.of("ROLE_USER"));
+
+        assertTrue(jwtUtil.verify(token).isEmpty(), "Expired token should be rejected");
+    }
 }
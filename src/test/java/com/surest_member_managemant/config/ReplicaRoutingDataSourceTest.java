@@ -0,0 +1,105 @@
+package com.surest_member_managemant.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaLagMonitor lagMonitor;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        lagMonitor = mock(ReplicaLagMonitor.class);
+        routing = new ReplicaRoutingDataSource(lagMonitor);
+        PrimaryStickiness.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        PrimaryStickiness.clear();
+        ReplicaReads.clear();
+    }
+
+    private static void inTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    @Test
+    void readOnlyTransactionsRoundRobinHealthyReplicas() {
+        when(lagMonitor.healthyReplicas()).thenReturn(List.of("replica-0", "replica-1"));
+        inTransaction(true);
+
+        assertEquals("replica-0", routing.determineCurrentLookupKey());
+        assertEquals("replica-1", routing.determineCurrentLookupKey());
+        assertEquals("replica-0", routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void readsFallBackToPrimaryWhenNoReplicaIsWithinLag() {
+        when(lagMonitor.healthyReplicas()).thenReturn(List.of());
+        inTransaction(true);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void readsAfterAWriteStickToPrimaryUntilCleared() {
+        when(lagMonitor.healthyReplicas()).thenReturn(List.of("replica-0"));
+
+        inTransaction(false);
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+
+        inTransaction(true);
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+
+        PrimaryStickiness.clear();
+        assertEquals("replica-0", routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void onPrimaryPinsReadsOnlyForItsScope() {
+        when(lagMonitor.healthyReplicas()).thenReturn(List.of("replica-0"));
+        inTransaction(true);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, PrimaryStickiness.onPrimary(routing::determineCurrentLookupKey));
+        assertEquals("replica-0", routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void onPrimaryKeepsEarlierStickiness() {
+        PrimaryStickiness.mark();
+
+        PrimaryStickiness.onPrimary(() -> null);
+
+        assertTrue(PrimaryStickiness.isSticky());
+    }
+
+    @Test
+    void readsFromAReplicaThatIsBehindAreRecorded() {
+        when(lagMonitor.healthyReplicas()).thenReturn(List.of("replica-0", "replica-1"));
+        when(lagMonitor.isBehind("replica-0")).thenReturn(true);
+        inTransaction(true);
+
+        assertEquals("replica-0", routing.determineCurrentLookupKey());
+        assertTrue(ReplicaReads.fromLaggingReplica());
+        assertEquals("replica-1", routing.determineCurrentLookupKey());
+        assertFalse(ReplicaReads.fromLaggingReplica());
+    }
+
+    @Test
+    void connectionsOutsideTransactionsUsePrimaryWithoutStickiness() {
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+        assertFalse(PrimaryStickiness.isSticky());
+    }
+}
@@ -0,0 +1,312 @@
+package com.surest_member_managemant.config;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TwoTierCacheTest {
+
+    @Mock
+    private CacheInvalidationPublisher publisher;
+
+    private CaffeineCache local;
+    private ConcurrentMapCache shared;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        local = new CaffeineCache("members", Caffeine.newBuilder().maximumSize(100).build());
+        shared = new ConcurrentMapCache("members");
+        cache = new TwoTierCache(local, shared, publisher);
+    }
+
+    @Test
+    void getFallsBackToSharedTierAndPopulatesLocal() {
+        UUID id = UUID.randomUUID();
+        shared.put(id, "alice");
+
+        assertEquals("alice", cache.get(id).get());
+        assertEquals("alice", local.get(id).get());
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    void localMissOnLoadingRegionIsServedFromSharedTierWithoutLoading() {
+        CacheLoader<Object, Object> loader = mock();
+        CaffeineCache loading = new CaffeineCache("members", Caffeine.newBuilder().maximumSize(100).build(loader));
+        TwoTierCache members = new TwoTierCache(loading, shared, publisher);
+        UUID id = UUID.randomUUID();
+        shared.put(id, "alice");
+
+        assertEquals("alice", members.get(id).get());
+        assertEquals("alice", loading.getNativeCache().getIfPresent(id));
+        verifyNoInteractions(loader);
+    }
+
+    @Test
+    void missInBothTiersIsLeftToTheCallerInsteadOfTheLoader() {
+        CacheLoader<Object, Object> loader = mock();
+        CaffeineCache loading = new CaffeineCache("members", Caffeine.newBuilder().maximumSize(100).build(loader));
+        TwoTierCache members = new TwoTierCache(loading, shared, publisher);
+
+        // The @Cacheable method then runs and reads a replica; the loader reads the primary
+        assertNull(members.get(UUID.randomUUID()));
+        verifyNoInteractions(loader);
+    }
+
+    @Test
+    void getAllPresentCombinesBothTiersAndSkipsMisses() {
+        UUID inLocal = UUID.randomUUID();
+        UUID inShared = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        local.put(inLocal, "alice");
+        shared.put(inShared, "rahul");
+
+        Map<Object, Object> found = cache.getAllPresent(List.of(inLocal, inShared, missing));
+
+        assertEquals(Map.of(inLocal, "alice", inShared, "rahul"), found);
+        assertEquals("rahul", local.get(inShared).get());
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    void getAllPresentReadsEveryLocalMissFromTheSharedTierInOneCall() {
+        MultiKeyCache batchShared = mock();
+        TwoTierCache members = new TwoTierCache(local, batchShared, publisher);
+        UUID inLocal = UUID.randomUUID();
+        UUID inShared = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        local.put(inLocal, "alice");
+        when(batchShared.getAllPresent(List.of(inShared, missing))).thenReturn(Map.of(inShared, "rahul"));
+
+        Map<Object, Object> found = members.getAllPresent(List.of(inLocal, inShared, missing));
+
+        assertEquals(Map.of(inLocal, "alice", inShared, "rahul"), found);
+        assertEquals("rahul", local.get(inShared).get());
+        verify(batchShared).getAllPresent(List.of(inShared, missing));
+        verifyNoMoreInteractions(batchShared);
+    }
+
+    @Test
+    void putAllIfAbsentInsideTransactionWaitsForCommitAndKeepsCachedEntries() {
+        UUID loaded = UUID.randomUUID();
+        UUID updated = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.putAllIfAbsent(Map.of(loaded, "alice", updated, "stale"));
+            assertNull(local.get(loaded));
+            assertNull(shared.get(loaded));
+            // An update commits a newer copy before the reader does
+            local.put(updated, "fresh");
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals("alice", local.get(loaded).get());
+        assertEquals("alice", shared.get(loaded).get());
+        assertEquals("fresh", local.get(updated).get());
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    void putAllIfAbsentAndEvictAllUseOneSharedCallForTheBatch() {
+        MultiKeyCache batchShared = mock();
+        TwoTierCache members = new TwoTierCache(local, batchShared, publisher);
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        Map<UUID, String> entries = Map.of(a, "alice", b, "rahul");
+
+        members.putAllIfAbsent(entries);
+        members.evictAll(List.of(a, b));
+
+        verify(batchShared).putAllIfAbsent(entries);
+        verify(batchShared).evictAll(List.of(a, b));
+        verifyNoMoreInteractions(batchShared);
+    }
+
+    @Test
+    void evictAllDropsKeysFromBothTiersWithOneBroadcast() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID kept = UUID.randomUUID();
+        cache.putIfAbsent(a, "alice");
+        cache.putIfAbsent(b, "rahul");
+        cache.putIfAbsent(kept, "priya");
+
+        cache.evictAll(List.of(a, b));
+
+        assertNull(local.get(a));
+        assertNull(shared.get(b));
+        assertEquals("priya", local.get(kept).get());
+        verify(publisher).publishEvictAll("members", List.of(a, b));
+        verifyNoMoreInteractions(publisher);
+    }
+
+    @Test
+    void putFillsBothTiersWithoutBroadcast() {
+        UUID id = UUID.randomUUID();
+
+        cache.put(id, "alice");
+
+        assertEquals("alice", local.get(id).get());
+        assertEquals("alice", shared.get(id).get());
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    void putInsideTransactionIsAppliedOnlyAfterCommit() {
+        UUID id = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.put(id, "alice");
+            assertNull(local.get(id));
+            assertNull(shared.get(id));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals("alice", local.get(id).get());
+        assertEquals("alice", shared.get(id).get());
+    }
+
+    @Test
+    void putInsideRolledBackTransactionLeavesNothingCached() {
+        UUID id = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.put(id, "alice");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertNull(local.get(id));
+        assertNull(shared.get(id));
+    }
+
+    @Test
+    void evictInsideTransactionIsRepeatedAfterCommit() {
+        UUID id = UUID.randomUUID();
+        local.put(id, "alice");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict(id);
+            assertNull(local.get(id));
+            // A concurrent reader caches the row as it was before the commit
+            local.put(id, "stale");
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertNull(local.get(id));
+        verify(publisher).publishEvict("members", id);
+    }
+
+    @Test
+    void clearInsideTransactionIsRepeatedAfterCommit() {
+        TwoTierCache pages = new TwoTierCache(new CaffeineCache("memberPages", Caffeine.newBuilder().maximumSize(100).build()),
+                null, publisher);
+        pages.put("page-0", "before");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            pages.clear();
+            assertNull(pages.get("page-0"));
+            // A list request running alongside the write caches the page as it was before the commit
+            pages.putIfAbsent("page-0", "stale");
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertNull(pages.get("page-0"));
+        verify(publisher).publishClear("memberPages");
+    }
+
+    @Test
+    void putAndEvictPeersRefreshesThisNodeAfterCommitAndBroadcastsAnEviction() {
+        UUID id = UUID.randomUUID();
+        local.put(id, "old");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.putAndEvictPeers(id, "new");
+            assertEquals("old", local.get(id).get());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals("new", local.get(id).get());
+        assertEquals("new", shared.get(id).get());
+        verify(publisher).publishEvict("members", id);
+    }
+
+    @Test
+    void evictRemovesBothTiersAndBroadcasts() {
+        UUID id = UUID.randomUUID();
+        local.put(id, "alice");
+        shared.put(id, "alice");
+
+        cache.evict(id);
+
+        assertNull(local.get(id));
+        assertNull(shared.get(id));
+        verify(publisher).publishEvict("members", id);
+    }
+
+    @Test
+    void loaderResultIsSharedWithoutBroadcast() {
+        UUID id = UUID.randomUUID();
+
+        assertEquals("loaded", cache.get(id, () -> "loaded"));
+        assertEquals("loaded", shared.get(id).get());
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    void evictLocalMatchesKeysByStringFormAndLeavesSharedTier() {
+        UUID id = UUID.randomUUID();
+        cache.put(id, "alice");
+
+        cache.evictLocal(id.toString());
+
+        assertNull(local.get(id));
+        assertEquals("alice", shared.get(id).get());
+    }
+
+    @Test
+    void evictLocalBatchDropsUuidAndStringKeys() {
+        UUID a = UUID.randomUUID();
+        UUID kept = UUID.randomUUID();
+        cache.put(a, "alice");
+        cache.put("admin", "admin-details");
+        cache.put(kept, "priya");
+
+        cache.evictLocal(List.of(a.toString(), "admin"));
+
+        assertNull(local.get(a));
+        assertNull(local.get("admin"));
+        assertEquals("priya", local.get(kept).get());
+    }
+}
@@ -0,0 +1,45 @@
+package com.surest_member_managemant.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserDetailsCacheTest {
+
+    private UserDetailsCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserDetailsCache(new ConcurrentMapCacheManager("users"));
+    }
+
+    @Test
+    void cachedUserSurvivesCredentialErasureOnReturnedCopy() {
+        userCache.putUserInCache(User.withUsername("admin").password("{bcrypt}hash").roles("ADMIN").build());
+
+        User first = (User) userCache.getUserFromCache("admin");
+        first.eraseCredentials();
+        UserDetails second = userCache.getUserFromCache("admin");
+
+        assertNull(first.getPassword());
+        assertEquals("{bcrypt}hash", second.getPassword());
+        assertTrue(second.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
+    }
+
+    @Test
+    void removeAndClearDropEntries() {
+        userCache.putUserInCache(User.withUsername("admin").password("a").roles("ADMIN").build());
+        userCache.putUserInCache(User.withUsername("user").password("u").roles("USER").build());
+
+        userCache.removeUserFromCache("admin");
+        assertNull(userCache.getUserFromCache("admin"));
+        assertNotNull(userCache.getUserFromCache("user"));
+
+        userCache.clear();
+        assertNull(userCache.getUserFromCache("user"));
+    }
+}
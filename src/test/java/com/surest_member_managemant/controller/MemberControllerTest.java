@@ -1,9 +1,28 @@
 package com.surest_member_managemant.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.surest_member_managemant.config.JwtAuthenticationCache;
 import com.surest_member_managemant.config.JwtUtil;
+import com.surest_member_managemant.dto.CursorPage;
+import com.surest_member_managemant.dto.MemberBulkResponse;
+import com.surest_member_managemant.dto.MemberDeltaResponse;
 import com.surest_member_managemant.dto.MemberRequest;
 import com.surest_member_managemant.dto.MemberResponse;
+import com.surest_member_managemant.dto.MemberImportError;
+import com.surest_member_managemant.dto.MemberImportResponse;
+import com.surest_member_managemant.dto.MemberLookupResult;
+import com.surest_member_managemant.dto.PageResponse;
+import com.surest_member_managemant.exception.GoneException;
+import com.surest_member_managemant.exception.PreconditionRequiredException;
+import com.surest_member_managemant.service.MemberBulkService;
+import com.surest_member_managemant.service.MemberChangeFeed;
+import com.surest_member_managemant.service.MemberDataFormat;
+import com.surest_member_managemant.service.MemberDeltaService;
+import com.surest_member_managemant.service.MemberExportService;
+import com.surest_member_managemant.service.MemberImportService;
+import com.surest_member_managemant.service.MemberLookupService;
 import com.surest_member_managemant.service.MemberService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +35,11 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -36,10 +60,31 @@ class MemberControllerTest {
     @MockitoBean
     private MemberService memberService;
 
+    @MockitoBean
+    private MemberImportService memberImportService;
+
+    @MockitoBean
+    private MemberExportService memberExportService;
+
+    @MockitoBean
+    private MemberLookupService memberLookupService;
+
+    @MockitoBean
+    private MemberBulkService memberBulkService;
+
+    @MockitoBean
+    private MemberChangeFeed memberChangeFeed;
+
+    @MockitoBean
+    private MemberDeltaService memberDeltaService;
+
     // mock any other beans that might be injected into your controller (e.g. JwtUtil)
     @MockitoBean
     private JwtUtil jwtUtil;
 
+    @MockitoBean
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
     private MemberResponse sampleMember;
 
     @BeforeEach
@@ -76,12 +121,28 @@ class MemberControllerTest {
     @Test
     @WithMockUser(roles = "USER")
     void listMembersAsUserShouldReturnPage() throws Exception {
-        Page<MemberResponse> page = new PageImpl<>(List.of(sampleMember), PageRequest.of(0,20), 1);
-        Mockito.when(memberService.getAllMembers(any(), any(), any(Pageable.class))).thenReturn(page);
+        PageResponse<MemberResponse> page = new PageResponse<>(List.of(sampleMember), 0, 20, false, 1L, 1);
+        Mockito.when(memberService.getAllMembers(any(), any(), any(Pageable.class), eq(true))).thenReturn(page);
 
         mockMvc.perform(get("/api/v1/members"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.content[0].id").value(sampleMember.getId().toString()));
+                .andExpect(jsonPath("$.content[0].id").value(sampleMember.getId().toString()))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.pageable").doesNotExist())
+                .andExpect(jsonPath("$.sort").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void listMembersWithoutTotalShouldOmitCounts() throws Exception {
+        PageResponse<MemberResponse> page = new PageResponse<>(List.of(sampleMember), 0, 20, true, null, null);
+        Mockito.when(memberService.getAllMembers(any(), any(), any(Pageable.class), eq(false))).thenReturn(page);
+
+        mockMvc.perform(get("/api/v1/members").param("withTotal", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.totalPages").doesNotExist());
     }
 
     @Test
@@ -94,6 +155,42 @@ class MemberControllerTest {
                 .andExpect(jsonPath("$.firstName").value("John"));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void updateMemberTakesTheVersionFromIfMatch() throws Exception {
+        MemberRequest req = MemberRequest.builder().firstName("Jane").lastName("Doe")
+                .dateOfBirth(LocalDate.of(1992, 2, 2)).email("jane.doe@example.com").build();
+        Mockito.when(memberService.updateMember(eq(sampleMember.getId()), any(MemberRequest.class))).thenReturn(sampleMember);
+
+        mockMvc.perform(put("/api/v1/members/{id}", sampleMember.getId())
+                        .header("If-Match", "\"7-cbor\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isOk());
+
+        Mockito.verify(memberService).updateMember(eq(sampleMember.getId()), argThat(r -> Long.valueOf(7L).equals(r.getVersion())));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void updateMemberWithoutVersionShouldReturn428() throws Exception {
+        MemberRequest req = MemberRequest.builder().firstName("Jane").lastName("Doe")
+                .dateOfBirth(LocalDate.of(1992, 2, 2)).email("jane.doe@example.com").build();
+        Mockito.when(memberService.updateMember(eq(sampleMember.getId()), any(MemberRequest.class)))
+                .thenThrow(new PreconditionRequiredException("version is required"));
+
+        mockMvc.perform(put("/api/v1/members/{id}", sampleMember.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isPreconditionRequired());
+
+        mockMvc.perform(put("/api/v1/members/{id}", sampleMember.getId())
+                        .header("If-Match", "W/\"7\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void updateMemberAsAdminShouldReturnUpdatedMember() throws Exception {
@@ -123,7 +220,7 @@ class MemberControllerTest {
     @Test
     @WithMockUser(roles = "ADMIN")
     void deleteMemberAsAdminShouldReturnNoContent() throws Exception {
-        Mockito.doNothing().when(memberService).delete(any(UUID.class));
+        Mockito.doNothing().when(memberService).deleteMember(any(UUID.class));
 
         mockMvc.perform(delete("/api/v1/members/{id}", sampleMember.getId()))
                 .andExpect(status().isNoContent());
@@ -132,8 +229,8 @@ class MemberControllerTest {
     @Test
     @WithMockUser(roles = "USER")
     void listMembersSortSingleFieldShouldUseAscByDefault() throws Exception {
-        Page<MemberResponse> page = new PageImpl<>(List.of(sampleMember));
-        Mockito.when(memberService.getAllMembers(any(), any(), any(Pageable.class))).thenReturn(page);
+        PageResponse<MemberResponse> page = new PageResponse<>(List.of(sampleMember), 0, 20, false, 1L, 1);
+        Mockito.when(memberService.getAllMembers(any(), any(), any(Pageable.class), anyBoolean())).thenReturn(page);
 
         mockMvc.perform(get("/api/v1/members")
                         .param("sort", "firstName"))
@@ -141,6 +238,275 @@ class MemberControllerTest {
                 .andExpect(jsonPath("$.content[0].id").value(sampleMember.getId().toString()));
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    void listMembersWithCursorShouldUseKeysetPagination() throws Exception {
+        CursorPage<MemberResponse> page = CursorPage.<MemberResponse>builder()
+                .content(List.of(sampleMember)).size(20).hasNext(true).nextCursor("next-token").build();
+        Mockito.when(memberService.getMembersAfter("", 20)).thenReturn(page);
+
+        mockMvc.perform(get("/api/v1/members").param("after", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(sampleMember.getId().toString()))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importMembersNdjsonShouldReturnReport() throws Exception {
+        MemberImportResponse report = MemberImportResponse.builder()
+                .received(2).imported(1).failed(1)
+                .errors(List.of(new MemberImportError(2, "dup@example.com", "Email already exists")))
+                .build();
+        Mockito.when(memberImportService.importMembers(any(), eq(MemberDataFormat.NDJSON))).thenReturn(report);
+
+        mockMvc.perform(post("/api/v1/members/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{}\n{}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(2))
+                .andExpect(jsonPath("$.errors[0].message").value("Email already exists"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportMembersAsCsvShouldStreamBody() throws Exception {
+        Mockito.doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("id,firstName,lastName,dateOfBirth,email\n".getBytes(StandardCharsets.UTF_8));
+            return 0L;
+        }).when(memberExportService).exportMembers(any(), eq(MemberDataFormat.CSV));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/members/export").accept("text/csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string("id,firstName,lastName,dateOfBirth,email\n"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void patchMemberAsAdminShouldAcceptMergePatch() throws Exception {
+        MemberResponse patched = MemberResponse.builder()
+                .id(sampleMember.getId())
+                .firstName(sampleMember.getFirstName())
+                .lastName(sampleMember.getLastName())
+                .dateOfBirth(sampleMember.getDateOfBirth())
+                .email("patched@example.com")
+                .version(2L)
+                .build();
+        Mockito.when(memberService.patchMember(eq(sampleMember.getId()), any())).thenReturn(patched);
+
+        mockMvc.perform(patch("/api/v1/members/{id}", sampleMember.getId())
+                        .contentType("application/merge-patch+json")
+                        .content("{\"email\":\"patched@example.com\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("patched@example.com"))
+                .andExpect(jsonPath("$.version").value(2));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void getMemberByIdShouldReturn304WhenETagMatches() throws Exception {
+        sampleMember.setVersion(7L);
+        Mockito.when(memberService.getMemberById(sampleMember.getId())).thenReturn(sampleMember);
+
+        mockMvc.perform(get("/api/v1/members/{id}", sampleMember.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"7\""));
+
+        mockMvc.perform(get("/api/v1/members/{id}", sampleMember.getId()).header("If-None-Match", "\"7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/v1/members/{id}", sampleMember.getId()).header("If-None-Match", "\"6\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void getMemberByIdShouldTagEachRepresentationSeparately() throws Exception {
+        sampleMember.setVersion(7L);
+        Mockito.when(memberService.getMemberById(sampleMember.getId())).thenReturn(sampleMember);
+
+        mockMvc.perform(get("/api/v1/members/{id}", sampleMember.getId()).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"7-cbor\""))
+                .andExpect(header().stringValues("Vary", org.hamcrest.Matchers.hasItem("Accept")));
+
+        // A JSON validator must not revalidate the CBOR body, and vice versa
+        mockMvc.perform(get("/api/v1/members/{id}", sampleMember.getId())
+                        .accept(MediaType.APPLICATION_CBOR).header("If-None-Match", "\"7\""))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/members/{id}", sampleMember.getId())
+                        .accept(MediaType.APPLICATION_CBOR).header("If-None-Match", "\"7-cbor\""))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/v1/members/{id}", sampleMember.getId())
+                        .accept(MediaType.APPLICATION_JSON).header("If-None-Match", "\"7-cbor\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"7\""));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void getAllMembersShouldCarryWeakETagAndHonourIfNoneMatch() throws Exception {
+        sampleMember.setVersion(1L);
+        PageResponse<MemberResponse> page = new PageResponse<>(List.of(sampleMember), 0, 20, false, 1L, 1);
+        Mockito.when(memberService.getAllMembers(any(), any(), any(Pageable.class), anyBoolean())).thenReturn(page);
+
+        String etag = mockMvc.perform(get("/api/v1/members"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        org.junit.jupiter.api.Assertions.assertTrue(etag != null && etag.startsWith("W/\""));
+        mockMvc.perform(get("/api/v1/members").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void getByIdShouldAnswerCborWhenAccepted() throws Exception {
+        Mockito.when(memberService.getMemberById(sampleMember.getId())).thenReturn(sampleMember);
+
+        byte[] body = mockMvc.perform(get("/api/v1/members/{id}", sampleMember.getId())
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        ObjectMapper cbor = objectMapper.copyWith(new CBORFactory());
+        org.junit.jupiter.api.Assertions.assertEquals(sampleMember, cbor.readValue(body, MemberResponse.class));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void cborResponseUsesTheApplicationDateFormat() throws Exception {
+        Mockito.when(memberService.getMemberById(sampleMember.getId())).thenReturn(sampleMember);
+
+        byte[] body = mockMvc.perform(get("/api/v1/members/{id}", sampleMember.getId())
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Same ISO date string as the JSON body, not a [year, month, day] array
+        JsonNode decoded = objectMapper.copyWith(new CBORFactory()).readTree(body);
+        org.junit.jupiter.api.Assertions.assertEquals("1990-01-01", decoded.get("dateOfBirth").textValue());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void createMemberShouldAcceptCborBody() throws Exception {
+        MemberRequest request = MemberRequest.builder()
+                .firstName("John").lastName("Doe")
+                .dateOfBirth(LocalDate.of(1990, 1, 1)).email("john.doe@example.com")
+                .build();
+        Mockito.when(memberService.createMember(eq(request))).thenReturn(sampleMember);
+
+        mockMvc.perform(post("/api/v1/members")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .content(objectMapper.copyWith(new CBORFactory()).writeValueAsBytes(request)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.id").value(sampleMember.getId().toString()));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void lookupMembersShouldReturnResultsInRequestOrderWithNotFoundMarkers() throws Exception {
+        UUID unknown = UUID.randomUUID();
+        Mockito.when(memberLookupService.getMembers(List.of(unknown, sampleMember.getId())))
+                .thenReturn(List.of(MemberLookupResult.notFound(unknown), MemberLookupResult.found(sampleMember)));
+
+        mockMvc.perform(post("/api/v1/members/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[\"" + unknown + "\",\"" + sampleMember.getId() + "\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].id").value(unknown.toString()))
+                .andExpect(jsonPath("$.results[0].found").value(false))
+                .andExpect(jsonPath("$.results[0].member").doesNotExist())
+                .andExpect(jsonPath("$.results[1].found").value(true))
+                .andExpect(jsonPath("$.results[1].member.email").value("john.doe@example.com"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void lookupMembersWithoutIdsShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/members/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void bulkDeleteShouldReportDeletedAndMissingIds() throws Exception {
+        UUID missing = UUID.randomUUID();
+        Mockito.when(memberBulkService.deleteMembers(List.of(sampleMember.getId(), missing)))
+                .thenReturn(new MemberBulkResponse(List.of(sampleMember.getId()), List.of(missing), List.of(), List.of()));
+
+        mockMvc.perform(post("/api/v1/members/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[\"" + sampleMember.getId() + "\",\"" + missing + "\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected[0]").value(sampleMember.getId().toString()))
+                .andExpect(jsonPath("$.missing[0]").value(missing.toString()));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void bulkUpdateShouldValidateEachRow() throws Exception {
+        mockMvc.perform(post("/api/v1/members/bulk-update")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"members\":[{\"firstName\":\"John\"}]}"))
+                .andExpect(status().isBadRequest());
+        Mockito.verifyNoInteractions(memberBulkService);
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void changeFeedShouldOpenAnEventStreamResumingFromLastEventId() throws Exception {
+        SseEmitter emitter = new SseEmitter();
+        Mockito.when(memberChangeFeed.subscribe("42")).thenReturn(emitter);
+
+        mockMvc.perform(get("/api/v1/members/changes")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header("Last-Event-ID", "42"))
+                .andExpect(request().asyncStarted())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM));
+        Mockito.verify(memberChangeFeed).subscribe("42");
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void deltaShouldReturnChangesAndDeletionsWithCursor() throws Exception {
+        UUID deleted = UUID.randomUUID();
+        Mockito.when(memberDeltaService.getChangesSince("abc", 100))
+                .thenReturn(new MemberDeltaResponse(List.of(sampleMember), List.of(deleted), "next", false));
+
+        mockMvc.perform(get("/api/v1/members/delta").param("since", "abc").param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0].id").value(sampleMember.getId().toString()))
+                .andExpect(jsonPath("$.deleted[0]").value(deleted.toString()))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void deltaWithExpiredCursorShouldReturnGone() throws Exception {
+        Mockito.when(memberDeltaService.getChangesSince("old", 500))
+                .thenThrow(new GoneException("Cursor is older than the deletion history; sync again without since"));
+
+        mockMvc.perform(get("/api/v1/members/delta").param("since", "old"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.status").value(410));
+    }
+
     // Validation test to trigger MethodArgumentNotValidException and verify ApiError response
     @Test
     @WithMockUser(roles = "ADMIN")
@@ -0,0 +1,110 @@
+package com.surest_member_managemant.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.surest_member_managemant.config.CacheConfig;
+import com.surest_member_managemant.config.CacheInvalidationListener;
+import com.surest_member_managemant.config.CacheInvalidationPublisher;
+import com.surest_member_managemant.config.CacheRegionProperties;
+import com.surest_member_managemant.config.TwoTierCacheManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Two "nodes" share one Postgres; a write on one must drop the other's near-cache entry
+@Testcontainers(disabledWithoutDocker = true)
+class CacheInvalidationIntegrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        nodeA = new Node();
+        nodeB = new Node();
+        // Listeners clear their L1 once LISTEN is in place; wait for that before seeding
+        Thread.sleep(1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.listener.stop();
+        nodeB.listener.stop();
+    }
+
+    @Test
+    void evictOnOneNodeEvictsPeerNearCache() throws Exception {
+        UUID id = UUID.randomUUID();
+        Cache cacheA = nodeA.cacheManager.getCache("members");
+        Cache cacheB = nodeB.cacheManager.getCache("members");
+        cacheA.putIfAbsent(id, "stale");
+        cacheB.putIfAbsent(id, "stale");
+
+        cacheA.evict(id);
+
+        assertNull(cacheA.get(id));
+        assertTrue(awaitEvicted(cacheB, id), "peer should drop its copy after the broadcast");
+    }
+
+    @Test
+    void clearOnOneNodeClearsPeerRegion() throws Exception {
+        UUID id = UUID.randomUUID();
+        Cache cacheB = nodeB.cacheManager.getCache("members");
+        cacheB.putIfAbsent(id, "stale");
+
+        nodeA.cacheManager.getCache("members").clear();
+
+        assertTrue(awaitEvicted(cacheB, id));
+    }
+
+    private static boolean awaitEvicted(Cache cache, Object key) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (cache.get(key) == null) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return false;
+    }
+
+    private static final class Node {
+        private final TwoTierCacheManager cacheManager;
+        private final CacheInvalidationListener listener;
+
+        @SuppressWarnings("unchecked")
+        private Node() {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                    POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+            ObjectMapper objectMapper = new ObjectMapper();
+            CacheInvalidationPublisher publisher =
+                    new CacheInvalidationPublisher(new JdbcTemplate(dataSource), objectMapper, "member_cache_invalidation");
+
+            ObjectProvider<CacheInvalidationPublisher> publisherProvider = mock(ObjectProvider.class);
+            when(publisherProvider.getIfAvailable()).thenReturn(publisher);
+            cacheManager = new CacheConfig().cacheManager(new CacheRegionProperties(), List.of(),
+                    mock(ObjectProvider.class), publisherProvider, new SimpleMeterRegistry());
+
+            listener = new CacheInvalidationListener(dataSource, cacheManager, publisher, objectMapper);
+            listener.start();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.surest_member_managemant.integration;
+
+import com.surest_member_managemant.config.DataSourceRoutingConfig;
+import com.surest_member_managemant.config.PrimaryStickiness;
+import com.surest_member_managemant.config.ReplicaLagMonitor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Primary + streaming replica; checks that read-only transactions land on the standby
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaRoutingIntegrationTest {
+
+    private static final String IMAGE = "bitnami/postgresql:16";
+    private static final String PASSWORD = "secret";
+    private static final Network NETWORK = Network.newNetwork();
+
+    @Container
+    private static final GenericContainer<?> PRIMARY = new GenericContainer<>(IMAGE)
+            .withNetwork(NETWORK)
+            .withNetworkAliases("pg-primary")
+            .withEnv(Map.of(
+                    "POSTGRESQL_REPLICATION_MODE", "master",
+                    "POSTGRESQL_REPLICATION_USER", "repl_user",
+                    "POSTGRESQL_REPLICATION_PASSWORD", "repl_password",
+                    "POSTGRESQL_PASSWORD", PASSWORD,
+                    "POSTGRESQL_DATABASE", "surest"))
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*ready to accept connections.*", 1)
+                    .withStartupTimeout(Duration.ofMinutes(2)));
+
+    @Container
+    private static final GenericContainer<?> REPLICA = new GenericContainer<>(IMAGE)
+            .withNetwork(NETWORK)
+            .dependsOn(PRIMARY)
+            .withEnv(Map.of(
+                    "POSTGRESQL_REPLICATION_MODE", "slave",
+                    "POSTGRESQL_REPLICATION_USER", "repl_user",
+                    "POSTGRESQL_REPLICATION_PASSWORD", "repl_password",
+                    "POSTGRESQL_MASTER_HOST", "pg-primary",
+                    "POSTGRESQL_MASTER_PORT_NUMBER", "5432",
+                    "POSTGRESQL_PASSWORD", PASSWORD))
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*ready to accept read.only connections.*", 1)
+                    .withStartupTimeout(Duration.ofMinutes(2)));
+
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    private static DataSource dataSource(GenericContainer<?> container) {
+        return new DriverManagerDataSource(
+                "jdbc:postgresql://" + container.getHost() + ":" + container.getMappedPort(5432) + "/surest",
+                "postgres", PASSWORD);
+    }
+
+    @BeforeEach
+    void setUp() {
+        lagMonitor = new ReplicaLagMonitor(Map.of("replica-0", dataSource(REPLICA)),
+                Duration.ofSeconds(2), new SimpleMeterRegistry());
+        lagMonitor.check();
+        DataSource routing = DataSourceRoutingConfig.routingDataSource(dataSource(PRIMARY), lagMonitor);
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        PrimaryStickiness.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        PrimaryStickiness.clear();
+    }
+
+    private Boolean inRecovery() {
+        return jdbcTemplate.queryForObject("SELECT pg_is_in_recovery()", Boolean.class);
+    }
+
+    @Test
+    void replicaWithinLagIsInRotation() {
+        assertEquals(List.of("replica-0"), lagMonitor.healthyReplicas());
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplicaAndWritesUsePrimary() {
+        assertTrue(readOnly.<Boolean>execute(status -> inRecovery()), "read-only work should run on the standby");
+        assertFalse(readWrite.<Boolean>execute(status -> inRecovery()), "writes must run on the primary");
+    }
+
+    @Test
+    void readAfterWriteInSameRequestSeesTheWrite() {
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS routing_probe (id int)");
+            jdbcTemplate.update("INSERT INTO routing_probe VALUES (1)");
+        });
+
+        Integer count = readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT count(*) FROM routing_probe", Integer.class));
+        assertNotNull(count);
+        assertTrue(count >= 1);
+        assertFalse(readOnly.<Boolean>execute(status -> inRecovery()), "sticky reads stay on the primary");
+
+        PrimaryStickiness.clear();
+        assertTrue(readOnly.<Boolean>execute(status -> inRecovery()));
+    }
+}
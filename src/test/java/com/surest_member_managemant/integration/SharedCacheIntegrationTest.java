@@ -0,0 +1,103 @@
+package com.surest_member_managemant.integration;
+
+import com.surest_member_managemant.config.CacheRegionProperties;
+import com.surest_member_managemant.config.MultiKeyCache;
+import com.surest_member_managemant.config.PostgresSharedCacheManager;
+import com.surest_member_managemant.dto.MemberResponse;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Two "nodes" with their own shared-tier managers over one Postgres table
+@Testcontainers(disabledWithoutDocker = true)
+class SharedCacheIntegrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static DriverManagerDataSource dataSource;
+
+    @BeforeAll
+    static void createTable() {
+        dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        new JdbcTemplate(dataSource).execute("CREATE SCHEMA IF NOT EXISTS surestdatabase");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V9__create_shared_cache_entry.sql")).execute(dataSource);
+    }
+
+    private static Cache region(String name, Duration ttl) {
+        CacheRegionProperties properties = new CacheRegionProperties();
+        properties.getRegions().put(name, new CacheRegionProperties.Region(100L, ttl, null));
+        return new PostgresSharedCacheManager(dataSource, properties).getCache(name);
+    }
+
+    @Test
+    void entryLoadedOnOneNodeIsAHitOnAnotherUntilEvicted() {
+        Cache nodeA = region("members", Duration.ofMinutes(10));
+        Cache nodeB = region("members", Duration.ofMinutes(10));
+        UUID id = UUID.randomUUID();
+        MemberResponse member = MemberResponse.builder().id(id).firstName("Alice").version(1L).build();
+
+        nodeA.put(id, member);
+
+        assertEquals(member, nodeB.get(id, MemberResponse.class));
+
+        nodeB.evict(id);
+
+        assertNull(nodeA.get(id));
+    }
+
+    @Test
+    void expiredEntriesAreMissesAndCanBeReplacedByPutIfAbsent() throws InterruptedException {
+        Cache cache = region("short", Duration.ofSeconds(1));
+        cache.put("key", "old");
+        Thread.sleep(1500);
+
+        assertNull(cache.get("key"));
+        assertNull(cache.putIfAbsent("key", "new"));
+        assertEquals("new", cache.putIfAbsent("key", "newer").get());
+    }
+
+    @Test
+    void batchOperationsReadFillAndEvictManyKeysAtOnce() {
+        MultiKeyCache cache = (MultiKeyCache) region("batch", Duration.ofMinutes(5));
+        UUID kept = UUID.randomUUID();
+        UUID added = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        cache.put(kept, "current");
+
+        cache.putAllIfAbsent(Map.of(kept, "stale", added, "loaded"));
+
+        assertEquals(Map.of(kept, "current", added, "loaded"), cache.getAllPresent(List.of(kept, added, missing)));
+
+        cache.evictAll(List.of(kept, added));
+
+        assertTrue(cache.getAllPresent(List.of(kept, added)).isEmpty());
+    }
+
+    @Test
+    void clearDropsOnlyItsOwnRegion() {
+        Cache pages = region("memberPages", Duration.ofMinutes(5));
+        Cache users = region("users", Duration.ofMinutes(5));
+        pages.put("page-0", "rows");
+        users.put("admin", "details");
+
+        pages.clear();
+
+        assertNull(pages.get("page-0"));
+        assertEquals("details", users.get("admin").get());
+    }
+}
@@ -6,6 +6,7 @@ import com.surest_member_managemant.config.JwtUtil;
 import com.surest_member_managemant.dto.AuthRequest;
 import com.surest_member_managemant.dto.AuthResponse;
 import com.surest_member_managemant.exception.NotFoundException;
+import com.surest_member_managemant.exception.ServiceUnavailableException;
 import com.surest_member_managemant.exception.UnauthorizedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,9 +32,6 @@ class AuthServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
-    @Mock
-    private CustomUserDetailsService userDetailsService;
-
     @Mock
     private JwtUtil jwtUtil;
 
@@ -51,13 +49,14 @@ class AuthServiceTest {
         request.setUsername("admin");
         request.setPassword("Admin@123");
 
-        // Mock userDetailsService
+        // The authenticated principal is all login needs to build the token
         User userDetails = new User(
                 "admin",
                 "Admin@123",
                 List.of((GrantedAuthority) () -> "ROLE_ADMIN")  // List ensures stream() works
         );
-        when(userDetailsService.loadUserByUsername("admin")).thenReturn(userDetails);
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenReturn(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
 
         // Mock JWT generation
         when(jwtUtil.generateToken("admin", List.of("ROLE_ADMIN"))).thenReturn("dummy-jwt-token");
@@ -70,7 +69,6 @@ class AuthServiceTest {
 
         // Verify interactions
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(userDetailsService).loadUserByUsername("admin");
         verify(jwtUtil).generateToken("admin", List.of("ROLE_ADMIN"));
     }
 
@@ -130,5 +128,16 @@ class AuthServiceTest {
         assertEquals("Authentication failed", ex.getMessage());
     }
 
+    @Test
+    void loginShouldPropagateServiceUnavailableWhenEncoderSaturated() {
+        AuthRequest request = new AuthRequest();
+        request.setUsername("admin");
+        request.setPassword("Admin@123");
+
+        doThrow(new ServiceUnavailableException("busy"))
+                .when(authenticationManager)
+                .authenticate(any(UsernamePasswordAuthenticationToken.class));
 
+        assertThrows(ServiceUnavailableException.class, () -> authService.login(request));
+    }
 }
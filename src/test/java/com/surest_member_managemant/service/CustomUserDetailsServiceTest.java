@@ -58,4 +58,22 @@ class CustomUserDetailsServiceTest {
         verify(userRepository).findByUsername("unknown");
     }
 
+    @Test
+    void updatePasswordStoresNewHash() {
+        Role role = new Role();
+        role.setName("ROLE_ADMIN");
+        User user = new User();
+        user.setUsername("admin");
+        user.setPasswordHash("$2b$12$old");
+        user.setRole(role);
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(user));
+
+        UserDetails current = org.springframework.security.core.userdetails.User.withUsername("admin")
+                .password("$2b$12$old").roles("ADMIN").build();
+        UserDetails updated = userDetailsService.updatePassword(current, "{bcrypt}$2a$10$new");
+
+        assertEquals("{bcrypt}$2a$10$new", user.getPasswordHash());
+        assertEquals("{bcrypt}$2a$10$new", updated.getPassword());
+        verify(userRepository).save(user);
+    }
 }
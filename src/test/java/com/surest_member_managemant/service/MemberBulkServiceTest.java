@@ -0,0 +1,164 @@
+package com.surest_member_managemant.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.surest_member_managemant.config.TwoTierCache;
+import com.surest_member_managemant.dto.MemberBulkResponse;
+import com.surest_member_managemant.dto.MemberBulkUpdateItem;
+import com.surest_member_managemant.dto.MemberResponse;
+import com.surest_member_managemant.entity.Member;
+import com.surest_member_managemant.entity.MemberEventType;
+import com.surest_member_managemant.repository.MemberBatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberBulkServiceTest {
+
+    @Mock
+    private MemberBatchRepository memberBatchRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private MemberOutboxWriter outboxWriter;
+
+    @Captor
+    private ArgumentCaptor<List<Member>> rowsCaptor;
+
+    private TwoTierCache cache;
+    private MemberBulkService bulkService;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TwoTierCache(new CaffeineCache("members", Caffeine.newBuilder().build()), null, null);
+        bulkService = new MemberBulkService(memberBatchRepository, transactionManager, cacheManager, outboxWriter, 5, 2);
+    }
+
+    private static MemberBulkUpdateItem item(UUID id, Long version) {
+        MemberBulkUpdateItem item = new MemberBulkUpdateItem();
+        item.setId(id);
+        item.setFirstName("First");
+        item.setLastName("Last");
+        item.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        item.setEmail(id + "@example.com");
+        item.setVersion(version);
+        return item;
+    }
+
+    private static MemberResponse written(UUID id) {
+        return MemberResponse.builder().id(id).firstName("First").lastName("Last").email(id + "@example.com").version(2L).build();
+    }
+
+    @Test
+    void updateRunsOneStatementPerChunkAndClassifiesUnmatchedRows() {
+        when(cacheManager.getCache("members")).thenReturn(cache);
+        UUID updated = UUID.randomUUID();
+        UUID stale = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        cache.put(updated, "old copy");
+        MemberResponse row = written(updated);
+        when(memberBatchRepository.updateAll(anyList())).thenReturn(List.of(row)).thenReturn(List.of());
+        when(memberBatchRepository.findExistingIds(anyList())).thenReturn(List.of(stale)).thenReturn(List.of());
+
+        MemberBulkResponse response = bulkService.updateMembers(
+                List.of(item(updated, 1L), item(stale, 3L), item(missing, 1L)));
+
+        assertEquals(List.of(updated), response.getAffected());
+        assertEquals(List.of(stale), response.getConflicted());
+        assertEquals(List.of(missing), response.getMissing());
+        assertTrue(response.getFailed().isEmpty());
+        verify(memberBatchRepository, times(2)).updateAll(rowsCaptor.capture());
+        assertEquals(2, rowsCaptor.getAllValues().get(0).size());
+        assertEquals(3L, rowsCaptor.getAllValues().get(0).get(1).getVersion());
+        verify(memberBatchRepository).findExistingIds(List.of(stale));
+        verify(memberBatchRepository).findExistingIds(List.of(missing));
+        assertNull(cache.get(updated));
+        verify(outboxWriter).recordMembers(MemberEventType.UPDATED, List.of(row));
+    }
+
+    @Test
+    void duplicateEmailFailsOnlyItsChunk() {
+        when(cacheManager.getCache("members")).thenReturn(cache);
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        when(memberBatchRepository.updateAll(anyList()))
+                .thenThrow(new DuplicateKeyException("member_email_key"))
+                .thenReturn(List.of(written(c)));
+        when(memberBatchRepository.findExistingIds(List.of())).thenReturn(List.of());
+
+        MemberBulkResponse response = bulkService.updateMembers(List.of(item(a, 1L), item(b, 1L), item(c, 1L)));
+
+        assertEquals(List.of(a, b), response.getFailed());
+        assertEquals(List.of(c), response.getAffected());
+        verify(transactionManager).rollback(any());
+        verify(outboxWriter, times(1)).recordMembers(MemberEventType.UPDATED, List.of(written(c)));
+    }
+
+    @Test
+    void updateRejectsRepeatedIds() {
+        UUID id = UUID.randomUUID();
+
+        assertThrows(IllegalArgumentException.class, () -> bulkService.updateMembers(List.of(item(id, 1L), item(id, 1L))));
+        verifyNoInteractions(memberBatchRepository);
+    }
+
+    @Test
+    void updateRejectsRowsWithoutVersion() {
+        UUID id = UUID.randomUUID();
+
+        assertThrows(IllegalArgumentException.class, () -> bulkService.updateMembers(List.of(item(id, null))));
+        verifyNoInteractions(memberBatchRepository);
+    }
+
+    @Test
+    void deleteReportsMissingIdsAndEvictsDeletedOnes() {
+        when(cacheManager.getCache("members")).thenReturn(cache);
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID gone = UUID.randomUUID();
+        cache.put(a, "a");
+        cache.put(b, "b");
+        when(memberBatchRepository.deleteAll(List.of(a, gone))).thenReturn(List.of(a));
+        when(memberBatchRepository.deleteAll(List.of(b))).thenReturn(List.of(b));
+
+        MemberBulkResponse response = bulkService.deleteMembers(List.of(a, gone, a, b));
+
+        assertEquals(List.of(a, b), response.getAffected());
+        assertEquals(List.of(gone), response.getMissing());
+        assertNull(cache.get(a));
+        assertNull(cache.get(b));
+        verify(outboxWriter).recordAll(MemberEventType.DELETED, List.of(a));
+        verify(outboxWriter).recordAll(MemberEventType.DELETED, List.of(b));
+    }
+
+    @Test
+    void tooManyIdsAreRejected() {
+        List<UUID> six = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        assertThrows(IllegalArgumentException.class, () -> bulkService.deleteMembers(six));
+        verifyNoInteractions(memberBatchRepository, transactionManager);
+    }
+}
@@ -0,0 +1,164 @@
+package com.surest_member_managemant.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.surest_member_managemant.config.PrimaryStickiness;
+import com.surest_member_managemant.dto.MemberChangeEvent;
+import com.surest_member_managemant.entity.MemberEventType;
+import com.surest_member_managemant.entity.MemberOutboxEvent;
+import com.surest_member_managemant.exception.ServiceUnavailableException;
+import com.surest_member_managemant.repository.MemberOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberChangeFeedTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Mock
+    private MemberOutboxRepository outboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MemberChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Senders never run, so queued events stay queued and buffer limits can be observed
+        feed = new MemberChangeFeed(outboxRepository,
+                new MemberOutboxWriter(outboxRepository, objectMapper, event -> {}),
+                objectMapper, transactionManager, meterRegistry,
+                task -> {}, 2, 3, 100, Duration.ofSeconds(5), Duration.ofMinutes(30));
+    }
+
+    private static MemberChangeEvent event(long sequence) {
+        return MemberChangeEvent.builder()
+                .sequence(sequence)
+                .type(MemberEventType.DELETED)
+                .memberId(UUID.randomUUID())
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static MemberOutboxEvent row(long id) {
+        return MemberOutboxEvent.builder()
+                .id(id)
+                .memberId(UUID.randomUUID())
+                .eventType(MemberEventType.DELETED)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void subscriberThatFallsBehindIsDisconnected() {
+        feed.subscribe(null);
+
+        feed.onCommitted(new MemberChangesRecorded(List.of(event(1), event(2))));
+        assertEquals(1, feed.subscriberCount());
+
+        feed.onCommitted(new MemberChangesRecorded(List.of(event(3))));
+        assertEquals(0, feed.subscriberCount());
+        assertEquals(1.0, meterRegistry.get("member.feed.dropped").counter().count());
+    }
+
+    @Test
+    void pollOnlyFansOutEventsNotAlreadyDelivered() {
+        feed.subscribe(null);
+        feed.onCommitted(new MemberChangesRecorded(List.of(event(1))));
+        when(outboxRepository.databaseTime()).thenReturn(LocalDateTime.now());
+        when(outboxRepository.findCreatedSince(any(), anyInt())).thenReturn(List.of(row(1), row(2)));
+
+        feed.pollOutbox();
+
+        // Buffer of 2 now holds events 1 and 2; a repeat of 1 would have overflowed it
+        assertEquals(1, feed.subscriberCount());
+        feed.onCommitted(new MemberChangesRecorded(List.of(event(3))));
+        assertEquals(0, feed.subscriberCount());
+    }
+
+    @Test
+    void pollWindowIsMeasuredOnTheDatabaseClock() {
+        feed.subscribe(null);
+        LocalDateTime first = LocalDateTime.of(2026, 1, 1, 12, 0);
+        when(outboxRepository.databaseTime()).thenReturn(first).thenReturn(first.plusSeconds(1));
+        when(outboxRepository.findCreatedSince(any(), anyInt())).thenReturn(List.of());
+
+        feed.pollOutbox();
+        feed.pollOutbox();
+
+        // The first window starts settle-window before the database time, the next one at the previous poll
+        verify(outboxRepository, times(2)).findCreatedSince(first.minusSeconds(5), 100);
+    }
+
+    @Test
+    void pollIsSkippedWithoutSubscribers() {
+        feed.pollOutbox();
+
+        verifyNoInteractions(outboxRepository);
+    }
+
+    @Test
+    void resumeReadsTheWindowAroundTheLastEvent() {
+        MemberOutboxEvent last = row(7);
+        when(outboxRepository.findById(7L)).thenReturn(Optional.of(last));
+        when(outboxRepository.findCreatedSince(last.getCreatedAt().minusSeconds(5), 101)).thenReturn(List.of(last, row(8)));
+
+        feed.subscribe("7");
+
+        verify(outboxRepository).findCreatedSince(last.getCreatedAt().minusSeconds(5), 101);
+        assertEquals(1, feed.subscriberCount());
+    }
+
+    @Test
+    void resumeLooksUpTheLastEventOnThePrimary() {
+        when(outboxRepository.findById(7L)).thenAnswer(invocation -> {
+            assertTrue(PrimaryStickiness.isSticky());
+            return Optional.of(row(7));
+        });
+
+        feed.subscribe("7");
+
+        verify(outboxRepository).findById(7L);
+        assertFalse(PrimaryStickiness.isSticky());
+    }
+
+    @Test
+    void unknownOrMalformedLastEventIdSkipsTheReplayQuery() {
+        when(outboxRepository.findById(99L)).thenReturn(Optional.empty());
+
+        feed.subscribe("99");
+        feed.subscribe("not-a-number");
+
+        verify(outboxRepository, never()).findCreatedSince(any(), anyInt());
+        assertEquals(2, feed.subscriberCount());
+    }
+
+    @Test
+    void subscribersBeyondTheLimitAreRejected() {
+        feed.subscribe(null);
+        feed.subscribe(null);
+        feed.subscribe(null);
+
+        assertThrows(ServiceUnavailableException.class, () -> feed.subscribe(null));
+    }
+}
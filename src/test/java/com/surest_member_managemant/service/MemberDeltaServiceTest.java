@@ -0,0 +1,122 @@
+package com.surest_member_managemant.service;
+
+import com.surest_member_managemant.dto.MemberDeltaResponse;
+import com.surest_member_managemant.dto.MemberResponse;
+import com.surest_member_managemant.exception.GoneException;
+import com.surest_member_managemant.repository.MemberDeltaRepository;
+import com.surest_member_managemant.repository.MemberDeltaRepository.Change;
+import com.surest_member_managemant.repository.MemberDeltaRepository.Window;
+import com.surest_member_managemant.repository.MemberTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberDeltaServiceTest {
+
+    @Mock
+    private MemberDeltaRepository deltaRepository;
+
+    @Mock
+    private MemberTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MemberDeltaService deltaService;
+
+    @BeforeEach
+    void setUp() {
+        deltaService = new MemberDeltaService(deltaRepository, tombstoneRepository, transactionManager,
+                100, Duration.ofSeconds(5), Duration.ofDays(30));
+    }
+
+    private static Change changed(LocalDateTime at) {
+        UUID id = UUID.randomUUID();
+        return new Change(id, MemberResponse.builder().id(id).firstName("First").build(), at);
+    }
+
+    // The database clock is deliberately far from the JVM's; only it may be used
+    private static Window window(LocalDateTime dbNow, List<Change> changes) {
+        return new Window(dbNow, dbNow.minusSeconds(5), changes);
+    }
+
+    @Test
+    void firstSyncStartsFromTheBeginningAndContinuesFromTheLastRow() {
+        LocalDateTime dbNow = LocalDateTime.of(2031, 6, 1, 12, 0);
+        LocalDateTime t1 = dbNow.minusHours(2);
+        Change first = changed(t1);
+        Change gone = new Change(UUID.randomUUID(), null, t1.plusMinutes(1));
+        Change third = changed(t1.plusMinutes(2));
+        when(deltaRepository.findChangesSince(LocalDateTime.of(1970, 1, 1, 0, 0), new UUID(0L, 0L), Duration.ofSeconds(5), 3))
+                .thenReturn(window(dbNow, List.of(first, gone, third)));
+
+        MemberDeltaResponse page = deltaService.getChangesSince(null, 2);
+
+        assertTrue(page.isHasMore());
+        assertEquals(List.of(first.member()), page.getChanged());
+        assertEquals(List.of(gone.id()), page.getDeleted());
+
+        when(deltaRepository.findChangesSince(gone.changedAt(), gone.id(), Duration.ofSeconds(5), 3))
+                .thenReturn(window(dbNow, List.of(third)));
+
+        MemberDeltaResponse next = deltaService.getChangesSince(page.getNextCursor(), 2);
+
+        assertFalse(next.isHasMore());
+        assertEquals(List.of(third.member()), next.getChanged());
+    }
+
+    @Test
+    void caughtUpCursorMovesToTheDatabaseUpperBound() {
+        LocalDateTime dbNow = LocalDateTime.of(2031, 6, 1, 12, 0);
+        when(deltaRepository.findChangesSince(any(), any(), eq(Duration.ofSeconds(5)), eq(101)))
+                .thenReturn(window(dbNow, List.of()));
+
+        MemberDeltaResponse caughtUp = deltaService.getChangesSince(null, 100);
+
+        assertFalse(caughtUp.isHasMore());
+        MemberCursor next = MemberCursor.decode(caughtUp.getNextCursor());
+        assertEquals(dbNow.minusSeconds(5), next.getTimestamp());
+        assertEquals(new UUID(0L, 0L), next.getId());
+    }
+
+    @Test
+    void cursorOlderThanTombstoneRetentionByTheDatabaseClockIsGone() {
+        LocalDateTime dbNow = LocalDateTime.of(2031, 6, 1, 12, 0);
+        String stale = new MemberCursor(dbNow.minusDays(31), UUID.randomUUID()).encode();
+        String recent = new MemberCursor(dbNow.minusDays(29), UUID.randomUUID()).encode();
+        when(deltaRepository.findChangesSince(any(), any(), any(), anyInt())).thenReturn(window(dbNow, List.of()));
+
+        assertThrows(GoneException.class, () -> deltaService.getChangesSince(stale, 10));
+        assertFalse(deltaService.getChangesSince(recent, 10).isHasMore());
+    }
+
+    @Test
+    void invalidSizeOrCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> deltaService.getChangesSince(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> deltaService.getChangesSince(null, 101));
+        assertThrows(IllegalArgumentException.class, () -> deltaService.getChangesSince("not-a-cursor", 10));
+        verifyNoInteractions(deltaRepository);
+    }
+
+    @Test
+    void expiredTombstonesAreDeletedByRetention() {
+        when(tombstoneRepository.deleteOlderThan(anyLong())).thenReturn(3);
+
+        deltaService.deleteExpiredTombstones();
+
+        verify(tombstoneRepository).deleteOlderThan(Duration.ofDays(30).toMillis());
+    }
+}
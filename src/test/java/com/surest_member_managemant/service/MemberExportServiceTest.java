@@ -0,0 +1,107 @@
+package com.surest_member_managemant.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.surest_member_managemant.dto.MemberResponse;
+import com.surest_member_managemant.entity.Member;
+import com.surest_member_managemant.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberExportServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private MemberExportService exportService;
+    private Member alice;
+    private Member rahul;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportService = new MemberExportService(memberRepository, entityManager, objectMapper);
+        alice = Member.builder().id(UUID.randomUUID()).firstName("Alice").lastName("Singh")
+                .dateOfBirth(LocalDate.of(1990, 5, 12)).email("alice@example.com").build();
+        rahul = Member.builder().id(UUID.randomUUID()).firstName("Rahul").lastName("Kumar, Jr")
+                .dateOfBirth(LocalDate.of(1985, 11, 3)).email("rahul@example.com").build();
+    }
+
+    @Test
+    void exportNdjsonWritesOneObjectPerLineAndDetachesRows() throws Exception {
+        when(memberRepository.streamAll()).thenReturn(Stream.of(alice, rahul));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = exportService.exportMembers(out, MemberDataFormat.NDJSON);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":\"" + alice.getId()));
+        assertTrue(lines[1].contains("\"dateOfBirth\":\"1985-11-03\""));
+        verify(entityManager).detach(alice);
+        verify(entityManager).detach(rahul);
+    }
+
+    @Test
+    void exportCsvWritesHeaderAndQuotesFields() throws Exception {
+        when(memberRepository.streamAll()).thenReturn(Stream.of(alice, rahul));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.exportMembers(out, MemberDataFormat.CSV);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals("id,firstName,lastName,dateOfBirth,email", lines[0]);
+        assertEquals(alice.getId() + ",Alice,Singh,1990-05-12,alice@example.com", lines[1]);
+        assertEquals(rahul.getId() + ",Rahul,\"Kumar, Jr\",1985-11-03,rahul@example.com", lines[2]);
+    }
+
+    @Test
+    void exportEmptyTableWritesNothingForNdjson() throws Exception {
+        when(memberRepository.streamAll()).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(0, exportService.exportMembers(out, MemberDataFormat.NDJSON));
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void exportCborSequenceWritesConcatenatedItems() throws Exception {
+        when(memberRepository.streamAll()).thenReturn(Stream.of(alice, rahul));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = exportService.exportMembers(out, MemberDataFormat.CBOR_SEQ);
+
+        CBORMapper cbor = CBORMapper.builder().addModule(new JavaTimeModule()).build();
+        try (MappingIterator<MemberResponse> items = cbor.readerFor(MemberResponse.class).readValues(out.toByteArray())) {
+            List<MemberResponse> members = items.readAll();
+            assertEquals(2, count);
+            assertEquals(List.of(alice.getId(), rahul.getId()), members.stream().map(MemberResponse::getId).toList());
+            assertEquals(LocalDate.of(1985, 11, 3), members.get(1).getDateOfBirth());
+        }
+        verify(entityManager).detach(rahul);
+    }
+}
@@ -0,0 +1,162 @@
+package com.surest_member_managemant.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.surest_member_managemant.dto.MemberImportResponse;
+import com.surest_member_managemant.entity.Member;
+import com.surest_member_managemant.entity.MemberEventType;
+import com.surest_member_managemant.repository.MemberBatchRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberImportServiceTest {
+
+    @Mock
+    private MemberBatchRepository memberBatchRepository;
+
+    @Mock
+    private MemberOutboxWriter outboxWriter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<List<Member>> batchCaptor;
+
+    private MemberImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new MemberImportService(
+                memberBatchRepository,
+                outboxWriter,
+                transactionManager,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                2);
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void importNdjsonInsertsInBatchesAndReportsExistingEmails() throws Exception {
+        String ndjson = """
+                {"firstName":"Alice","lastName":"Singh","dateOfBirth":"1990-05-12","email":"alice@example.com"}
+                {"firstName":"Rahul","lastName":"Kumar","dateOfBirth":"1985-11-03","email":"rahul@example.com"}
+                {"firstName":"Priya","lastName":"Patel","dateOfBirth":"1992-08-25","email":"priya@example.com"}
+                """;
+        when(memberBatchRepository.insertIgnoringExisting(anyList()))
+                .thenReturn(List.of("alice@example.com"))
+                .thenReturn(List.of("priya@example.com"));
+
+        MemberImportResponse response = importService.importMembers(body(ndjson), MemberDataFormat.NDJSON);
+
+        assertEquals(3, response.getReceived());
+        assertEquals(2, response.getImported());
+        assertEquals(1, response.getFailed());
+        assertEquals(2, response.getErrors().get(0).getLine());
+        assertEquals("rahul@example.com", response.getErrors().get(0).getEmail());
+        assertEquals("Email already exists", response.getErrors().get(0).getMessage());
+
+        verify(memberBatchRepository, times(2)).insertIgnoringExisting(batchCaptor.capture());
+        assertEquals(2, batchCaptor.getAllValues().get(0).size());
+        assertEquals(1, batchCaptor.getAllValues().get(1).size());
+        verify(outboxWriter).record(eq(MemberEventType.CREATED), any(), argThat(m -> "alice@example.com".equals(m.getEmail())));
+        verify(outboxWriter).record(eq(MemberEventType.CREATED), any(), argThat(m -> "priya@example.com".equals(m.getEmail())));
+        verifyNoMoreInteractions(outboxWriter);
+    }
+
+    @Test
+    void importCsvReportsInvalidMalformedAndDuplicateRows() throws Exception {
+        String csv = """
+                first_name,last_name,date_of_birth,email
+                Alice,Singh,1990-05-12,alice@example.com
+                "Kumar, Jr",Rahul,1985-11-03,not-an-email
+                Priya,Patel,25/08/1992,priya@example.com
+                Alice,Again,1991-01-01,alice@example.com
+                """;
+        when(memberBatchRepository.insertIgnoringExisting(anyList())).thenReturn(List.of("alice@example.com"));
+
+        MemberImportResponse response = importService.importMembers(body(csv), MemberDataFormat.CSV);
+
+        assertEquals(4, response.getReceived());
+        assertEquals(1, response.getImported());
+        assertEquals(3, response.getFailed());
+        assertEquals(List.of(3L, 4L, 5L), response.getErrors().stream().map(e -> e.getLine()).toList());
+        assertTrue(response.getErrors().get(0).getMessage().contains("email"));
+        assertTrue(response.getErrors().get(1).getMessage().startsWith("Malformed row"));
+        assertEquals("Duplicate email in import", response.getErrors().get(2).getMessage());
+    }
+
+    @Test
+    void importCsvWithoutRequiredColumnsThrows() {
+        assertThrows(IllegalArgumentException.class,
+                () -> importService.importMembers(body("name,email\nAlice,alice@example.com\n"), MemberDataFormat.CSV));
+        verifyNoInteractions(memberBatchRepository);
+    }
+
+    @Test
+    void importCborSequenceSkipsBadItemsAndReportsItemNumbers() throws Exception {
+        CBORMapper cbor = new CBORMapper();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cbor.writeValue(out, Map.of("firstName", "Alice", "lastName", "Singh",
+                "dateOfBirth", "1990-05-12", "email", "alice@example.com"));
+        cbor.writeValue(out, Map.of("firstName", "Priya", "lastName", "Patel",
+                "dateOfBirth", "25/08/1992", "email", "priya@example.com"));
+        cbor.writeValue(out, Map.of("firstName", "Rahul", "lastName", "Kumar",
+                "dateOfBirth", "1985-11-03", "email", "rahul@example.com"));
+        when(memberBatchRepository.insertIgnoringExisting(anyList()))
+                .thenReturn(List.of("alice@example.com", "rahul@example.com"));
+
+        MemberImportResponse response = importService.importMembers(
+                new ByteArrayInputStream(out.toByteArray()), MemberDataFormat.CBOR_SEQ);
+
+        assertEquals(3, response.getReceived());
+        assertEquals(2, response.getImported());
+        assertEquals(1, response.getFailed());
+        assertEquals(2, response.getErrors().get(0).getLine());
+        assertTrue(response.getErrors().get(0).getMessage().startsWith("Malformed row"));
+    }
+
+    @Test
+    void importTruncatedCborSequenceKeepsEarlierItems() throws Exception {
+        CBORMapper cbor = new CBORMapper();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cbor.writeValue(out, Map.of("firstName", "Alice", "lastName", "Singh",
+                "dateOfBirth", "1990-05-12", "email", "alice@example.com"));
+        byte[] second = cbor.writeValueAsBytes(Map.of("firstName", "Rahul", "lastName", "Kumar",
+                "dateOfBirth", "1985-11-03", "email", "rahul@example.com"));
+        out.write(second, 0, second.length / 2);
+        when(memberBatchRepository.insertIgnoringExisting(anyList())).thenReturn(List.of("alice@example.com"));
+
+        MemberImportResponse response = importService.importMembers(
+                new ByteArrayInputStream(out.toByteArray()), MemberDataFormat.CBOR_SEQ);
+
+        assertEquals(2, response.getReceived());
+        assertEquals(1, response.getImported());
+        assertEquals(2, response.getErrors().get(0).getLine());
+        assertTrue(response.getErrors().get(0).getMessage().startsWith("Malformed CBOR"));
+    }
+}
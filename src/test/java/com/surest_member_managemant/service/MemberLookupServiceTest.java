@@ -0,0 +1,132 @@
+package com.surest_member_managemant.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.surest_member_managemant.config.ReplicaReads;
+import com.surest_member_managemant.config.TwoTierCache;
+import com.surest_member_managemant.dto.MemberLookupResult;
+import com.surest_member_managemant.dto.MemberResponse;
+import com.surest_member_managemant.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberLookupServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    private TwoTierCache cache;
+    private MemberLookupService lookupService;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TwoTierCache(new CaffeineCache("members", Caffeine.newBuilder().build()), null, null);
+        lookupService = new MemberLookupService(memberRepository, cacheManager, 5, 2);
+    }
+
+    private static MemberResponse member(UUID id) {
+        return MemberResponse.builder().id(id).firstName("F").lastName("L").email(id + "@example.com").version(0L).build();
+    }
+
+    @Test
+    void cachedMembersAreServedWithoutQueryingAndMissesAreChunkedAndBackFilled() {
+        when(cacheManager.getCache("members")).thenReturn(cache);
+        UUID cached = UUID.randomUUID();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        cache.put(cached, member(cached));
+        when(memberRepository.findResponsesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            return ids.stream().filter(id -> !id.equals(unknown)).map(MemberLookupServiceTest::member).toList();
+        });
+
+        List<MemberLookupResult> results = lookupService.getMembers(List.of(a, cached, unknown, b, c));
+
+        assertEquals(List.of(a, cached, unknown, b, c), results.stream().map(MemberLookupResult::getId).toList());
+        assertEquals(List.of(true, true, false, true, true), results.stream().map(MemberLookupResult::isFound).toList());
+        assertNull(results.get(2).getMember());
+        verify(memberRepository).findResponsesByIdIn(List.of(a, unknown));
+        verify(memberRepository).findResponsesByIdIn(List.of(b, c));
+        verifyNoMoreInteractions(memberRepository);
+        assertNotNull(cache.get(a));
+        assertNull(cache.get(unknown));
+    }
+
+    @Test
+    void rowsFromALaggingReplicaAreReturnedButNotBackFilled() {
+        when(cacheManager.getCache("members")).thenReturn(cache);
+        UUID id = UUID.randomUUID();
+        when(memberRepository.findResponsesByIdIn(List.of(id))).thenAnswer(invocation -> {
+            ReplicaReads.record(true);
+            return List.of(member(id));
+        });
+
+        try {
+            assertTrue(lookupService.getMembers(List.of(id)).get(0).isFound());
+        } finally {
+            ReplicaReads.clear();
+        }
+        assertNull(cache.get(id));
+    }
+
+    @Test
+    void backFillWaitsForTheReadTransactionToCommit() {
+        when(cacheManager.getCache("members")).thenReturn(cache);
+        UUID id = UUID.randomUUID();
+        when(memberRepository.findResponsesByIdIn(List.of(id))).thenReturn(List.of(member(id)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertTrue(lookupService.getMembers(List.of(id)).get(0).isFound());
+            assertNull(cache.get(id));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertNotNull(cache.get(id));
+    }
+
+    @Test
+    void duplicateIdsAreLoadedOnceAndAnsweredInPlace() {
+        when(cacheManager.getCache("members")).thenReturn(cache);
+        UUID id = UUID.randomUUID();
+        when(memberRepository.findResponsesByIdIn(List.of(id))).thenReturn(List.of(member(id)));
+
+        List<MemberLookupResult> results = lookupService.getMembers(List.of(id, id));
+
+        assertEquals(2, results.size());
+        assertSame(results.get(0).getMember(), results.get(1).getMember());
+        verify(memberRepository, times(1)).findResponsesByIdIn(anyCollection());
+    }
+
+    @Test
+    void tooManyOrNoIdsAreRejected() {
+        List<UUID> six = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        assertThrows(IllegalArgumentException.class, () -> lookupService.getMembers(six));
+        assertThrows(IllegalArgumentException.class, () -> lookupService.getMembers(List.of()));
+        verifyNoInteractions(memberRepository, cacheManager);
+    }
+}
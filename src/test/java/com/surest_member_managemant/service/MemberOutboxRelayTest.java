@@ -0,0 +1,118 @@
+package com.surest_member_managemant.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.surest_member_managemant.dto.MemberChangeEvent;
+import com.surest_member_managemant.dto.MemberResponse;
+import com.surest_member_managemant.entity.MemberEventType;
+import com.surest_member_managemant.entity.MemberOutboxEvent;
+import com.surest_member_managemant.repository.MemberOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberOutboxRelayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Mock
+    private MemberOutboxRepository outboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MemberOutboxWriter outboxWriter;
+    private InMemoryMemberEventSink sink;
+    private SimpleMeterRegistry meterRegistry;
+    private MemberOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxWriter = new MemberOutboxWriter(outboxRepository, objectMapper, event -> {});
+        sink = new InMemoryMemberEventSink();
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new MemberOutboxRelay(outboxRepository, sink, outboxWriter, transactionManager, meterRegistry,
+                2, Duration.ofHours(24));
+    }
+
+    private MemberOutboxEvent row(long id, MemberEventType type, MemberResponse member) throws Exception {
+        return MemberOutboxEvent.builder()
+                .id(id)
+                .memberId(member == null ? UUID.randomUUID() : member.getId())
+                .eventType(type)
+                .payload(member == null ? null : objectMapper.writeValueAsString(member))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void drainPublishesFullBatchesUntilTheOutboxIsEmpty() throws Exception {
+        MemberResponse member = MemberResponse.builder()
+                .id(UUID.randomUUID())
+                .firstName("Alice")
+                .lastName("Singh")
+                .dateOfBirth(LocalDate.of(1990, 5, 12))
+                .email("alice@example.com")
+                .version(0L)
+                .build();
+        when(outboxRepository.lockUnpublished(2))
+                .thenReturn(List.of(row(1, MemberEventType.CREATED, member), row(2, MemberEventType.DELETED, null)))
+                .thenReturn(List.of(row(3, MemberEventType.UPDATED, member)));
+        when(outboxRepository.findOldestUnpublishedAgeMillis()).thenReturn(Optional.empty());
+
+        relay.drain();
+
+        List<MemberChangeEvent> events = sink.getEvents();
+        assertEquals(List.of(1L, 2L, 3L), events.stream().map(MemberChangeEvent::getSequence).toList());
+        assertEquals(member, events.get(0).getMember());
+        assertNull(events.get(1).getMember());
+        verify(outboxRepository).markPublished(eq(List.of(1L, 2L)), any());
+        verify(outboxRepository).markPublished(eq(List.of(3L)), any());
+        verify(outboxRepository, times(2)).lockUnpublished(2);
+        assertEquals(3.0, meterRegistry.get("member.outbox.published").counter().count());
+        assertEquals(0.0, meterRegistry.get("member.outbox.lag").gauge().value());
+    }
+
+    @Test
+    void sinkFailureRollsBackAndLeavesRowsUnpublished() throws Exception {
+        MemberEventSink failing = events -> {
+            throw new IllegalStateException("broker down");
+        };
+        relay = new MemberOutboxRelay(outboxRepository, failing, outboxWriter, transactionManager, meterRegistry,
+                2, Duration.ofHours(24));
+        when(outboxRepository.lockUnpublished(2)).thenReturn(List.of(row(1, MemberEventType.DELETED, null)));
+
+        assertEquals(0, relay.relayBatch());
+
+        verify(outboxRepository, never()).markPublished(any(), any());
+        verify(transactionManager).rollback(any());
+        assertEquals(1.0, meterRegistry.get("member.outbox.relay.failures").counter().count());
+    }
+
+    @Test
+    void lagGaugeReportsTheOldestUnpublishedEvent() {
+        when(outboxRepository.lockUnpublished(anyInt())).thenReturn(List.of());
+        when(outboxRepository.findOldestUnpublishedAgeMillis()).thenReturn(Optional.of(30_000L));
+
+        relay.drain();
+
+        assertTrue(meterRegistry.get("member.outbox.lag").gauge().value() >= 30.0);
+    }
+}
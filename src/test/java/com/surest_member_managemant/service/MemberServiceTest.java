@@ -1,10 +1,21 @@
 package com.surest_member_managemant.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.surest_member_managemant.config.TwoTierCache;
+import com.surest_member_managemant.dto.CursorPage;
 import com.surest_member_managemant.dto.MemberRequest;
 import com.surest_member_managemant.dto.MemberResponse;
+import com.surest_member_managemant.dto.PageResponse;
 import com.surest_member_managemant.entity.Member;
+import com.surest_member_managemant.entity.MemberEventType;
+import com.surest_member_managemant.exception.ConflictException;
 import com.surest_member_managemant.exception.NotFoundException;
+import com.surest_member_managemant.exception.PreconditionRequiredException;
 import com.surest_member_managemant.repository.MemberRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,12 +23,17 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
 
 
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,6 +46,18 @@ class MemberServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private MemberOutboxWriter outboxWriter;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private MemberService memberService;
 
@@ -79,6 +107,7 @@ class MemberServiceTest {
         assertEquals("Doe", captured.getLastName());
         assertEquals("john.doe@example.com", captured.getEmail());
         assertEquals(sampleRequest.getDateOfBirth(), captured.getDateOfBirth());
+        verify(outboxWriter).record(MemberEventType.CREATED, sampleMember.getId(), resp);
     }
 
     @Test
@@ -119,45 +148,45 @@ class MemberServiceTest {
     @Test
     void listMembersNoFiltersReturnsPage() {
         Pageable pageable = PageRequest.of(0, 10, Sort.by("firstName"));
-        List<Member> members = Collections.singletonList(sampleMember);
-        Page<Member> page = new PageImpl<>(members, pageable, members.size());
+        List<MemberResponse> members = Collections.singletonList(MemberService.mapToResponse(sampleMember));
+        Page<MemberResponse> page = new PageImpl<>(members, pageable, members.size());
 
-        when(memberRepository.findAll(pageable)).thenReturn(page);
+        when(memberRepository.findPageBy(pageable)).thenReturn(page);
 
-        Page<MemberResponse> result = memberService.getAllMembers(null, null, pageable);
+        PageResponse<MemberResponse> result = memberService.getAllMembers(null, null, pageable, true);
 
         assertNotNull(result);
-        assertEquals(1, result.getTotalElements());
+        assertEquals(1, result.getTotalElements().longValue());
         assertEquals(sampleMember.getEmail(), result.getContent().get(0).getEmail());
-        verify(memberRepository).findAll(pageable);
+        verify(memberRepository).findPageBy(pageable);
     }
 
     @Test
     void listMembersFirstNameFilterCallsRepositoryMethod() {
         Pageable pageable = PageRequest.of(0, 5);
-        List<Member> members = Collections.singletonList(sampleMember);
-        Page<Member> page = new PageImpl<>(members, pageable, members.size());
+        List<MemberResponse> members = Collections.singletonList(MemberService.mapToResponse(sampleMember));
+        Page<MemberResponse> page = new PageImpl<>(members, pageable, members.size());
 
         when(memberRepository.findByFirstNameContainingIgnoreCase("Jo", pageable)).thenReturn(page);
 
-        Page<MemberResponse> result = memberService.getAllMembers("Jo", null, pageable);
+        PageResponse<MemberResponse> result = memberService.getAllMembers("Jo", null, pageable, true);
 
-        assertEquals(1, result.getTotalElements());
+        assertEquals(1, result.getTotalElements().longValue());
         verify(memberRepository).findByFirstNameContainingIgnoreCase("Jo", pageable);
         verifyNoMoreInteractions(memberRepository);
     }
     @Test
     void listMembersFirstAndLastNameFilterCallsCombinedRepositoryMethod() {
         Pageable pageable = PageRequest.of(0, 5);
-        List<Member> members = Collections.singletonList(sampleMember);
-        Page<Member> page = new PageImpl<>(members, pageable, members.size());
+        List<MemberResponse> members = Collections.singletonList(MemberService.mapToResponse(sampleMember));
+        Page<MemberResponse> page = new PageImpl<>(members, pageable, members.size());
 
         when(memberRepository.findByFirstNameContainingIgnoreCaseAndLastNameContainingIgnoreCase("Jo", "Do", pageable))
                 .thenReturn(page);
 
-        Page<MemberResponse> result = memberService.getAllMembers("Jo", "Do", pageable);
+        PageResponse<MemberResponse> result = memberService.getAllMembers("Jo", "Do", pageable, true);
 
-        assertEquals(1, result.getTotalElements());
+        assertEquals(1, result.getTotalElements().longValue());
         assertEquals(sampleMember.getEmail(), result.getContent().get(0).getEmail());
 
         verify(memberRepository).findByFirstNameContainingIgnoreCaseAndLastNameContainingIgnoreCase("Jo", "Do", pageable);
@@ -167,34 +196,105 @@ class MemberServiceTest {
     @Test
     void listMembersLastNameFilterCallsRepositoryMethod() {
         Pageable pageable = PageRequest.of(0, 5);
-        List<Member> members = Collections.singletonList(sampleMember);
-        Page<Member> page = new PageImpl<>(members, pageable, members.size());
+        List<MemberResponse> members = Collections.singletonList(MemberService.mapToResponse(sampleMember));
+        Page<MemberResponse> page = new PageImpl<>(members, pageable, members.size());
 
         when(memberRepository.findByLastNameContainingIgnoreCase("Doe", pageable)).thenReturn(page);
 
-        Page<MemberResponse> result = memberService.getAllMembers(null, "Doe", pageable);
+        PageResponse<MemberResponse> result = memberService.getAllMembers(null, "Doe", pageable, true);
 
-        assertEquals(1, result.getTotalElements());
+        assertEquals(1, result.getTotalElements().longValue());
         assertEquals(sampleMember.getLastName(), result.getContent().get(0).getLastName());
         verify(memberRepository).findByLastNameContainingIgnoreCase("Doe", pageable);
         verifyNoMoreInteractions(memberRepository);
     }
     @Test
-    void updateMemberSuccessEmailChanged() {
+    void listMembersWithoutTotalUsesSliceQueryAndOmitsCounts() {
+        Pageable pageable = PageRequest.of(0, 1);
+        when(memberRepository.findSliceByFirstName("Jo", pageable))
+                .thenReturn(new SliceImpl<>(List.of(MemberService.mapToResponse(sampleMember)), pageable, true));
+
+        PageResponse<MemberResponse> result = memberService.getAllMembers("Jo", null, pageable, false);
+
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertNull(result.getTotalElements());
+        assertNull(result.getTotalPages());
+        verify(memberRepository).findSliceByFirstName("Jo", pageable);
+        verifyNoMoreInteractions(memberRepository);
+    }
+
+    @Test
+    void pageKeyNormalizesFilterCaseAndIncludesPageAndSort() {
+        Pageable pageable = PageRequest.of(2, 20, Sort.by("lastName"));
+
+        assertEquals(MemberService.pageKey("JO", null, pageable, false), MemberService.pageKey("jo", null, pageable, false));
+        assertNotEquals(MemberService.pageKey("jo", null, pageable, false), MemberService.pageKey(null, "jo", pageable, false));
+        assertNotEquals(MemberService.pageKey("jo", null, pageable, false),
+                MemberService.pageKey("jo", null, PageRequest.of(2, 20, Sort.by("firstName")), false));
+        assertNotEquals(MemberService.pageKey("jo", null, pageable, false), MemberService.pageKey("jo", null, PageRequest.of(3, 20), false));
+        assertNotEquals(MemberService.pageKey("jo", null, pageable, false), MemberService.pageKey("jo", null, pageable, true));
+    }
+
+    @Test
+    void pageKeysOfFiltersContainingTheSeparatorDoNotCollide() {
+        Pageable pageable = PageRequest.of(0, 20);
+
+        MemberService.PageKey split = MemberService.pageKey("a|b", "", pageable, false);
+        MemberService.PageKey shifted = MemberService.pageKey("a", "b|", pageable, false);
+
+        assertNotEquals(split, shifted);
+        assertNotEquals(split.toString(), shifted.toString());
+    }
+
+    @Test
+    void getMembersAfterFirstPageReturnsCursorWhenMoreRowsExist() {
+        Member newer = Member.builder().id(UUID.randomUUID()).firstName("A").lastName("One")
+                .email("a@example.com").createdAt(LocalDateTime.of(2024, 1, 2, 10, 0)).build();
+        Member older = Member.builder().id(UUID.randomUUID()).firstName("B").lastName("Two")
+                .email("b@example.com").createdAt(LocalDateTime.of(2024, 1, 1, 10, 0)).build();
+        when(memberRepository.findKeysetFirstPage(2)).thenReturn(List.of(newer, older));
+
+        CursorPage<MemberResponse> result = memberService.getMembersAfter("", 1);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(newer.getId(), result.getContent().get(0).getId());
+        assertTrue(result.isHasNext());
+        assertNotNull(result.getNextCursor());
+
+        when(memberRepository.findKeysetPageAfter(newer.getCreatedAt(), newer.getId(), 2)).thenReturn(List.of(older));
+
+        CursorPage<MemberResponse> next = memberService.getMembersAfter(result.getNextCursor(), 1);
+
+        assertEquals(older.getId(), next.getContent().get(0).getId());
+        assertFalse(next.isHasNext());
+        assertNull(next.getNextCursor());
+        verify(memberRepository).findKeysetPageAfter(newer.getCreatedAt(), newer.getId(), 2);
+    }
+
+    @Test
+    void getMembersAfterInvalidCursorThrows() {
+        assertThrows(IllegalArgumentException.class, () -> memberService.getMembersAfter("not-a-cursor", 10));
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    void getMembersAfterRejectsSizeOutsideBounds() {
+        assertThrows(IllegalArgumentException.class, () -> memberService.getMembersAfter("", 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> memberService.getMembersAfter("", MemberService.MAX_CURSOR_PAGE_SIZE + 1));
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    void updateMemberIssuesSingleConditionalUpdate() {
         UUID id = sampleMember.getId();
         MemberRequest updateReq = MemberRequest.builder()
                 .firstName("Jane")
                 .lastName("Smith")
                 .email("jane.smith@example.com")
                 .dateOfBirth(LocalDate.of(1985, 5, 5))
-                .build();
-
-        Member existing = Member.builder()
-                .id(id)
-                .firstName("Old")
-                .lastName("Name")
-                .email("old@example.com")
-                .dateOfBirth(LocalDate.of(1970, 1, 1))
+                .version(3L)
                 .build();
 
         Member saved = Member.builder()
@@ -203,13 +303,11 @@ class MemberServiceTest {
                 .lastName(updateReq.getLastName())
                 .email(updateReq.getEmail())
                 .dateOfBirth(updateReq.getDateOfBirth())
-
-
+                .version(4L)
                 .build();
 
-        when(memberRepository.findById(id)).thenReturn(Optional.of(existing));
-        when(memberRepository.existsByEmailAndIdNot(updateReq.getEmail(), id)).thenReturn(false);
-        when(memberRepository.save(any(Member.class))).thenReturn(saved);
+        when(memberRepository.updateReturning(id, "Jane", "Smith", updateReq.getDateOfBirth(),
+                updateReq.getEmail(), 3L)).thenReturn(Optional.of(saved));
 
         MemberResponse resp = memberService.updateMember(id, updateReq);
 
@@ -217,34 +315,24 @@ class MemberServiceTest {
         assertEquals(id, resp.getId());
         assertEquals("Jane", resp.getFirstName());
         assertEquals(updateReq.getEmail(), resp.getEmail());
-
-        verify(memberRepository).findById(id);
-        verify(memberRepository).existsByEmailAndIdNot(updateReq.getEmail(), id);
-        verify(memberRepository).save(memberCaptor.capture());
-        Member captured = memberCaptor.getValue();
-        assertEquals("Jane", captured.getFirstName());
-        assertEquals("Smith", captured.getLastName());
-        assertEquals(updateReq.getEmail(), captured.getEmail());
+        assertEquals(4L, resp.getVersion());
+        verify(memberRepository).updateReturning(id, "Jane", "Smith", updateReq.getDateOfBirth(), updateReq.getEmail(), 3L);
+        verifyNoMoreInteractions(memberRepository);
+        verify(outboxWriter).record(MemberEventType.UPDATED, id, resp);
     }
 
     @Test
-    void updateMemberSuccessEmailUnchanged() {
+    void updateMemberWithoutVersionIsRefused() {
         UUID id = sampleMember.getId();
         MemberRequest updateReq = MemberRequest.builder()
                 .firstName("John")
                 .lastName("Doe")
-                .email(sampleMember.getEmail()) // same email
+                .email(sampleMember.getEmail())
                 .dateOfBirth(sampleMember.getDateOfBirth())
                 .build();
 
-        when(memberRepository.findById(id)).thenReturn(Optional.of(sampleMember));
-        when(memberRepository.save(any(Member.class))).thenReturn(sampleMember);
-
-        MemberResponse resp = memberService.updateMember(id, updateReq);
-
-        assertEquals(sampleMember.getEmail(), resp.getEmail());
-        verify(memberRepository, never()).existsByEmailAndIdNot(anyString(), any());
-        verify(memberRepository).save(any(Member.class));
+        assertThrows(PreconditionRequiredException.class, () -> memberService.updateMember(id, updateReq));
+        verifyNoInteractions(memberRepository, outboxWriter);
     }
 
     @Test
@@ -255,18 +343,55 @@ class MemberServiceTest {
                 .lastName("Smith")
                 .email("existing@example.com") // different email
                 .dateOfBirth(LocalDate.of(1985, 5, 5))
+                .version(2L)
                 .build();
 
-        when(memberRepository.findById(id)).thenReturn(Optional.of(sampleMember));
-        when(memberRepository.existsByEmailAndIdNot(updateReq.getEmail(), id)).thenReturn(true);
+        when(memberRepository.updateReturning(eq(id), any(), any(), any(), eq("existing@example.com"), anyLong()))
+                .thenThrow(violation(Member.EMAIL_CONSTRAINT));
 
         IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
                 () -> memberService.updateMember(id, updateReq));
 
         assertTrue(ex.getMessage().toLowerCase().contains("email"));
-        verify(memberRepository).findById(id);
-        verify(memberRepository).existsByEmailAndIdNot(updateReq.getEmail(), id);
-        verify(memberRepository, never()).save(any());
+        verify(memberRepository, never()).existsById(any());
+    }
+
+    @Test
+    void updateMemberPassesOtherIntegrityViolationsThrough() {
+        UUID id = sampleMember.getId();
+        MemberRequest updateReq = MemberRequest.builder()
+                .firstName("Jane")
+                .lastName("Smith")
+                .email("jane.smith@example.com")
+                .dateOfBirth(LocalDate.of(1985, 5, 5))
+                .version(2L)
+                .build();
+        DataIntegrityViolationException notNull = violation("member_first_name_not_null");
+        when(memberRepository.updateReturning(eq(id), any(), any(), any(), any(), anyLong())).thenThrow(notNull);
+
+        assertSame(notNull, assertThrows(DataIntegrityViolationException.class, () -> memberService.updateMember(id, updateReq)));
+    }
+
+    private static DataIntegrityViolationException violation(String constraint) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("violates " + constraint, new SQLException("23505"), constraint));
+    }
+
+    @Test
+    void updateMemberStaleVersionThrowsConflict() {
+        UUID id = sampleMember.getId();
+        MemberRequest updateReq = MemberRequest.builder()
+                .firstName("Jane")
+                .lastName("Smith")
+                .email("jane.smith@example.com")
+                .dateOfBirth(LocalDate.of(1985, 5, 5))
+                .version(1L)
+                .build();
+
+        when(memberRepository.updateReturning(eq(id), any(), any(), any(), any(), eq(1L))).thenReturn(Optional.empty());
+        when(memberRepository.existsById(id)).thenReturn(true);
+
+        assertThrows(ConflictException.class, () -> memberService.updateMember(id, updateReq));
     }
 
     @Test
@@ -277,42 +402,113 @@ class MemberServiceTest {
                 .lastName("Smith")
                 .email("jane.smith@example.com")
                 .dateOfBirth(LocalDate.of(1985, 5, 5))
+                .version(0L)
                 .build();
 
-        when(memberRepository.findById(id)).thenReturn(Optional.empty());
+        when(memberRepository.updateReturning(eq(id), any(), any(), any(), any(), anyLong())).thenReturn(Optional.empty());
+        when(memberRepository.existsById(id)).thenReturn(false);
 
         NotFoundException ex = assertThrows(NotFoundException.class,
                 () -> memberService.updateMember(id, updateReq));
 
         assertTrue(ex.getMessage().toLowerCase().contains("member"));
-        verify(memberRepository).findById(id);
-        verify(memberRepository, never()).existsByEmailAndIdNot(anyString(), any());
         verify(memberRepository, never()).save(any());
     }
 
+    @Test
+    void patchMemberChangesOnlyPatchedFields() throws Exception {
+        UUID id = sampleMember.getId();
+        String originalFirstName = sampleMember.getFirstName();
+        when(memberRepository.findById(id)).thenReturn(Optional.of(sampleMember));
+        when(memberRepository.saveAndFlush(sampleMember)).thenReturn(sampleMember);
+
+        MemberResponse resp = memberService.patchMember(id,
+                objectMapper.readTree("{\"email\":\"new.address@example.com\"}"));
+
+        assertEquals("new.address@example.com", resp.getEmail());
+        assertEquals(originalFirstName, resp.getFirstName());
+        verify(memberRepository).saveAndFlush(memberCaptor.capture());
+        assertEquals("new.address@example.com", memberCaptor.getValue().getEmail());
+    }
+
+    @Test
+    void patchMemberRefreshesTheCachedEntryAndEvictsPeers() throws Exception {
+        UUID id = sampleMember.getId();
+        TwoTierCache members = mock(TwoTierCache.class);
+        when(cacheManager.getCache("members")).thenReturn(members);
+        when(memberRepository.findById(id)).thenReturn(Optional.of(sampleMember));
+        when(memberRepository.saveAndFlush(sampleMember)).thenReturn(sampleMember);
+
+        MemberResponse resp = memberService.patchMember(id, objectMapper.readTree("{\"firstName\":\"Jo\"}"));
+
+        verify(members).putAndEvictPeers(id, resp);
+        verifyNoMoreInteractions(members);
+    }
+
+    @Test
+    void patchMemberRejectsRemovalOfRequiredField() throws Exception {
+        UUID id = sampleMember.getId();
+        when(memberRepository.findById(id)).thenReturn(Optional.of(sampleMember));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> memberService.patchMember(id, objectMapper.readTree("{\"lastName\":null}")));
+
+        assertTrue(ex.getMessage().contains("lastName"));
+        verify(memberRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void patchMemberRejectsUnknownFieldsAndNonObjects() throws Exception {
+        UUID id = sampleMember.getId();
+        when(memberRepository.findById(id)).thenReturn(Optional.of(sampleMember));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> memberService.patchMember(id, objectMapper.readTree("{\"nickname\":\"JD\"}")));
+        assertThrows(IllegalArgumentException.class,
+                () -> memberService.patchMember(id, objectMapper.readTree("[1,2]")));
+    }
+
+    @Test
+    void patchMemberWithStaleVersionThrowsConflict() throws Exception {
+        UUID id = sampleMember.getId();
+        sampleMember.setVersion(5L);
+        when(memberRepository.findById(id)).thenReturn(Optional.of(sampleMember));
+
+        assertThrows(ConflictException.class,
+                () -> memberService.patchMember(id, objectMapper.readTree("{\"firstName\":\"Jo\",\"version\":4}")));
+        verify(memberRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void patchMemberDuplicateEmailThrows() throws Exception {
+        UUID id = sampleMember.getId();
+        when(memberRepository.findById(id)).thenReturn(Optional.of(sampleMember));
+        when(memberRepository.saveAndFlush(sampleMember)).thenThrow(violation(Member.EMAIL_CONSTRAINT));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> memberService.patchMember(id, objectMapper.readTree("{\"email\":\"taken@example.com\"}")));
+        assertEquals("Email already exists", ex.getMessage());
+    }
+
     @Test
     void deleteSuccess() {
         UUID id = sampleMember.getId();
-        when(memberRepository.existsById(id)).thenReturn(true);
-        doNothing().when(memberRepository).deleteById(id);
+        when(memberRepository.deleteMemberById(id)).thenReturn(1);
 
-        memberService.delete(id);
+        memberService.deleteMember(id);
 
-        verify(memberRepository).existsById(id);
-        verify(memberRepository).deleteById(id);
+        verify(memberRepository).deleteMemberById(id);
+        verifyNoMoreInteractions(memberRepository);
+        verify(outboxWriter).record(MemberEventType.DELETED, id, null);
     }
 
     @Test
     void deleteNotFoundThrows() {
         UUID id = UUID.randomUUID();
-        when(memberRepository.existsById(id)).thenReturn(false);
+        when(memberRepository.deleteMemberById(id)).thenReturn(0);
 
-        NotFoundException ex = assertThrows(NotFoundException.class, () -> memberService.delete(id));
+        NotFoundException ex = assertThrows(NotFoundException.class, () -> memberService.deleteMember(id));
         assertTrue(ex.getMessage().toLowerCase().contains("member"));
-
-        verify(memberRepository).existsById(id);
-        verify(memberRepository, never()).deleteById(any());
+        verifyNoInteractions(outboxWriter);
     }
-
-
 }
@@ -0,0 +1,44 @@
+package com.surest_member_managemant.service;
+
+import com.surest_member_managemant.config.UserDetailsCache;
+import com.surest_member_managemant.entity.Role;
+import com.surest_member_managemant.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+class UserCacheInvalidationListenerTest {
+
+    private UserDetailsCache userDetailsCache;
+    private UserCacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsCache = mock(UserDetailsCache.class);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("userDetailsCache", userDetailsCache));
+        listener = new UserCacheInvalidationListener(beanFactory.getBeanProvider(UserDetailsCache.class));
+    }
+
+    @Test
+    void userChangeEvictsOnlyThatUsername() {
+        User user = new User();
+        user.setUsername("admin");
+
+        listener.onChange(user);
+
+        verify(userDetailsCache).removeUserFromCache("admin");
+        verifyNoMoreInteractions(userDetailsCache);
+    }
+
+    @Test
+    void roleChangeClearsTheWholeRegion() {
+        listener.onChange(new Role());
+
+        verify(userDetailsCache).clear();
+        verifyNoMoreInteractions(userDetailsCache);
+    }
+}